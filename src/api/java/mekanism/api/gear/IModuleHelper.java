@@ -81,6 +81,9 @@ public interface IModuleHelper {
      * @param typeProvider Module type.
      *
      * @return Module, or {@code null} if no module of the given type is installed.
+     *
+     * @implNote The returned module may be shared with other callers that load modules from the same stack until the stack's modules change, so it should not be
+     * modified without saving it back to the stack.
      */
     @Nullable
     <MODULE extends ICustomModule<MODULE>> IModule<MODULE> load(ItemStack container, IModuleDataProvider<MODULE> typeProvider);
@@ -91,6 +94,9 @@ public interface IModuleHelper {
      * @param container Module container, for example a Meka-Tool or MekaSuit piece.
      *
      * @return List of modules on an item, or an empty list if the item doesn't support modules.
+     *
+     * @implNote The returned list is unmodifiable, and it and the modules in it may be shared with other callers that load modules from the same stack until the
+     * stack's modules change.
      */
     List<? extends IModule<?>> loadAll(ItemStack container);
 
@@ -101,6 +107,8 @@ public interface IModuleHelper {
      * @param moduleClass Class representing the type of module's to load.
      *
      * @return List of modules on an item of the given class, or an empty list if the item doesn't support modules or has no modules of that type.
+     *
+     * @implNote The modules in the returned list may be shared with other callers that load modules from the same stack until the stack's modules change.
      */
     <MODULE extends ICustomModule<?>> List<? extends IModule<? extends MODULE>> loadAll(ItemStack container, Class<MODULE> moduleClass);
 
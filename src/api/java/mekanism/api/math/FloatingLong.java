@@ -17,8 +17,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
 
     private static final DecimalFormat df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
+    //Note: For doing a set of operations all at once and outputting a new value without creating intermediary objects see FloatingLongAccumulator
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -228,6 +227,20 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return isConstant ? this : new FloatingLong(value, decimal, true);
     }
 
+    /**
+     * Sets this {@link FloatingLong} to the value of the given {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns
+     * the result in a new object.
+     *
+     * @param other The {@link FloatingLong} to copy the value of.
+     *
+     * @return The {@link FloatingLong} representing the value of the given {@link FloatingLong}.
+     *
+     * @apiNote Package private for use by {@link FloatingLongAccumulator}.
+     */
+    FloatingLong setEqual(FloatingLong other) {
+        return setAndClampValues(other.value, other.decimal);
+    }
+
     /**
      * Adds the given {@link FloatingLong} to this {@link FloatingLong}, modifying the current object unless it is a constant in which case it instead returns the result
      * in a new object. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
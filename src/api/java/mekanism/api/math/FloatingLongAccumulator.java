@@ -0,0 +1,120 @@
+package mekanism.api.math;
+
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * Reusable scratch value for performing a series of {@link FloatingLong} operations without creating a new object for each intermediary result. Once all the operations
+ * have been performed, {@link #freeze()} can be used to get an immutable copy of the result.
+ *
+ * @apiNote Accumulators are not thread-safe, and are meant to be owned by a single object (for example a network or a tile) and reused each time it needs to perform
+ * calculations, rather than being shared.
+ */
+@NothingNullByDefault
+public final class FloatingLongAccumulator {
+
+    /**
+     * Mutable backing value, as it is mutable all the "equals" methods will modify it in place rather than creating new objects.
+     */
+    private final FloatingLong value = FloatingLong.create(0);
+
+    /**
+     * Resets this accumulator back to zero so that it can be reused.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator reset() {
+        value.setEqual(FloatingLong.ZERO);
+        return this;
+    }
+
+    /**
+     * Sets the current value of this accumulator.
+     *
+     * @param toSet The value to set.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator set(FloatingLong toSet) {
+        value.setEqual(toSet);
+        return this;
+    }
+
+    /**
+     * Adds the given {@link FloatingLong} to the current value of this accumulator.
+     *
+     * @param toAdd The {@link FloatingLong} to add.
+     *
+     * @return This accumulator.
+     *
+     * @see FloatingLong#plusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator plus(FloatingLong toAdd) {
+        value.plusEqual(toAdd);
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link FloatingLong} from the current value of this accumulator.
+     *
+     * @param toSubtract The {@link FloatingLong} to subtract.
+     *
+     * @return This accumulator.
+     *
+     * @see FloatingLong#minusEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator minus(FloatingLong toSubtract) {
+        value.minusEqual(toSubtract);
+        return this;
+    }
+
+    /**
+     * Multiplies the current value of this accumulator by the given {@link FloatingLong}.
+     *
+     * @param toMultiply The {@link FloatingLong} to multiply by.
+     *
+     * @return This accumulator.
+     *
+     * @see FloatingLong#timesEqual(FloatingLong)
+     */
+    public FloatingLongAccumulator times(FloatingLong toMultiply) {
+        value.timesEqual(toMultiply);
+        return this;
+    }
+
+    /**
+     * @return {@code true} if the current value of this accumulator is zero.
+     */
+    public boolean isZero() {
+        return value.isZero();
+    }
+
+    /**
+     * @param other The {@link FloatingLong} to compare to.
+     *
+     * @return {@code true} if the current value of this accumulator is equal to the given {@link FloatingLong}.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value.equals(other);
+    }
+
+    /**
+     * Gets the current value of this accumulator without copying it.
+     *
+     * @return The backing mutable value of this accumulator.
+     *
+     * @apiNote The returned value will change as this accumulator is used, so it should not be stored or modified by the caller. It is meant for passing to methods that
+     * only read the value or that make their own copy of it.
+     */
+    public FloatingLong peek() {
+        return value;
+    }
+
+    /**
+     * Publishes the current value of this accumulator.
+     *
+     * @return An immutable copy of the current value of this accumulator.
+     */
+    public FloatingLong freeze() {
+        return value.copyAsConst();
+    }
+}
@@ -18,6 +18,7 @@ import mekanism.api.math.FloatingLongConsumer;
 import mekanism.api.math.FloatingLongSupplier;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Base class to help implement handling of Mekanism recipes.
@@ -119,6 +120,29 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     private IntConsumer operatingTicksChanged = ticks -> {
     };
+    /**
+     * Gets a counter that changes whenever any of the contents (inputs, outputs, or energy) of the holder change.
+     *
+     * @implNote Defaults to {@code null}, which means that steady state tracking is disabled and all values are recalculated every tick.
+     */
+    @Nullable
+    private IntSupplier contentsVersion;
+    /**
+     * Operation tracker that gets reset and reused each tick so that we don't have to create a new one every time we process.
+     */
+    private final OperationTracker tracker = new OperationTracker();
+    /**
+     * Whether the number of operations calculated last tick can be reused if nothing has changed since.
+     */
+    private boolean steadyState;
+    /**
+     * Value of {@link #contentsVersion} when the operations were last calculated.
+     */
+    private int lastContentsVersion;
+    /**
+     * Value of {@link #baselineMaxOperations} when the operations were last calculated.
+     */
+    private int lastBaselineMaxOperations;
 
     /**
      * @param recipe           Recipe.
@@ -257,6 +281,23 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         return this;
     }
 
+    /**
+     * Sets the supplier that is used to detect if anything the {@link CachedRecipe} depends on may have changed since the last time it calculated how many operations it
+     * could perform. While nothing has changed and no operations could be performed, the {@link CachedRecipe} will reuse the previous result instead of recalculating it
+     * and revalidating all the inputs and outputs.
+     *
+     * @param contentsVersion Supplies a counter that changes every time the inputs, outputs, or stored energy of the holder change.
+     *
+     * @apiNote Only use this if every change to the holder's inputs, outputs, and energy (including changes caused by other sources such as pipes or players) will cause
+     * the counter to change, otherwise the {@link CachedRecipe} may fail to notice it is able to process again.
+     * <br>
+     * If this method is not used, this {@link CachedRecipe} defaults to recalculating everything every tick.
+     */
+    public CachedRecipe<RECIPE> setContentsVersion(IntSupplier contentsVersion) {
+        this.contentsVersion = Objects.requireNonNull(contentsVersion, "Contents version supplier cannot be null.");
+        return this;
+    }
+
     /**
      * Updates the known errors to the given set, and calls {@link #onErrorsChange} if the errors actually changed.
      */
@@ -287,8 +328,20 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         // as once we start processing the cached recipe should basically be immutable
         int operations;
         if (canHolderFunction.getAsBoolean()) {
+            boolean checkAll = recheckAllErrors.getAsBoolean();
+            int baselineMax = baselineMaxOperations.getAsInt();
+            if (steadyState && !checkAll && contentsVersion != null && lastContentsVersion == contentsVersion.getAsInt() && lastBaselineMaxOperations == baselineMax) {
+                //If nothing changed since we last calculated that we can't perform any operations, then the result will be the same,
+                // and we can skip revalidating everything. There also is no need to update our errors as they won't have changed
+                return;
+            }
+            if (contentsVersion != null) {
+                //Note: We grab the version before calculating so that if anything changes while we are calculating we will recalculate next tick
+                lastContentsVersion = contentsVersion.getAsInt();
+                lastBaselineMaxOperations = baselineMax;
+            }
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            tracker.reset(errors, checkAll, baselineMax);
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -304,7 +357,11 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             if (tracker.hasErrorsToCopy()) {
                 updateErrors(tracker.errors);
             }
+            //We can only reuse the result if we are idle, as if we performed any operations we changed our contents and need to recalculate,
+            // and if we are resetting the progress we want to keep making sure it stays reset
+            steadyState = operations == 0 && contentsVersion != null;
         } else {
+            steadyState = false;
             operations = 0;
             if (!errors.isEmpty()) {
                 updateErrors(Collections.emptySet());
@@ -462,7 +519,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         /**
          * Set of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
          */
-        private final Set<RecipeError> lastErrors;
+        private Set<RecipeError> lastErrors = Collections.emptySet();
         /**
          * Set of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
          */
@@ -486,16 +543,24 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
          */
         private int maxForEnergy;
 
+        private OperationTracker() {
+        }
+
         /**
+         * Resets this tracker so that it can be reused for calculating the operations of another tick.
+         *
          * @param lastErrors  Set of the last errors the {@link CachedRecipe} had.
          * @param checkAll    {@code true} if this tracker should try and check for all existing errors.
          * @param startingMax Starting maximum number of operations that the {@link CachedRecipe} can perform this tick.
          */
-        private OperationTracker(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
+        private void reset(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
             this.lastErrors = lastErrors;
             this.checkAll = checkAll;
             this.currentMax = startingMax;
             this.maxForEnergy = currentMax;
+            //Note: We don't clear the errors but instead replace them as the previous set may be referenced as our last errors
+            this.errors = Collections.emptySet();
+            this.checkedErrors = true;
         }
 
         /**
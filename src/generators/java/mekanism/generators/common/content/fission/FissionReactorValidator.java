@@ -1,6 +1,5 @@
 package mekanism.generators.common.content.fission;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,6 +12,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -29,7 +29,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class FissionReactorValidator extends CuboidStructureValidator<FissionReactorMultiblockData> {
 
@@ -47,7 +46,7 @@ public class FissionReactorValidator extends CuboidStructureValidator<FissionRea
     }
 
     @Override
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    protected boolean validateInner(BlockState state, ChunkAccessCache chunkMap, BlockPos pos) {
         if (super.validateInner(state, chunkMap, pos)) {
             return true;
         }
@@ -55,7 +54,7 @@ public class FissionReactorValidator extends CuboidStructureValidator<FissionRea
     }
 
     @Override
-    public FormationResult postcheck(FissionReactorMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult postcheck(FissionReactorMultiblockData structure, ChunkAccessCache chunkMap) {
         Map<AssemblyPos, FuelAssembly> map = new HashMap<>();
         Set<BlockPos> fuelAssemblyCoords = new HashSet<>();
         int assemblyCount = 0, surfaceArea = 0;
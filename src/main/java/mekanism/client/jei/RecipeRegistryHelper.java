@@ -1,6 +1,7 @@
 package mekanism.client.jei;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import mekanism.api.providers.IItemProvider;
@@ -21,22 +22,42 @@ import net.minecraft.world.food.FoodProperties;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.registries.ForgeRegistries;
+import org.jetbrains.annotations.Nullable;
 
 public class RecipeRegistryHelper {
 
+    /**
+     * Rotary recipes that the cached condensentrating and decondensentrating recipes were split from. As the recipe type caches its recipes until they are reloaded, if
+     * we are given the same list we know our split lists are still accurate.
+     */
+    private static List<RotaryRecipe> cachedRotaryRecipes = Collections.emptyList();
+    private static List<RotaryRecipe> condensentratorRecipes = Collections.emptyList();
+    private static List<RotaryRecipe> decondensentratorRecipes = Collections.emptyList();
+    /**
+     * Nutritional liquifier recipes only depend on the registered items, so we only have to look them up the first time JEI loads.
+     */
+    @Nullable
+    private static List<ItemStackToFluidRecipe> nutritionalLiquifierRecipes;
+
     private RecipeRegistryHelper() {
     }
 
     public static void registerCondensentrator(IRecipeRegistration registry) {
-        List<RotaryRecipe> condensentratorRecipes = new ArrayList<>();
-        List<RotaryRecipe> decondensentratorRecipes = new ArrayList<>();
-        for (RotaryRecipe recipe : MekanismRecipeType.ROTARY.getRecipes(getWorld())) {
-            if (recipe.hasGasToFluid()) {
-                condensentratorRecipes.add(recipe);
-            }
-            if (recipe.hasFluidToGas()) {
-                decondensentratorRecipes.add(recipe);
+        List<RotaryRecipe> rotaryRecipes = MekanismRecipeType.ROTARY.getRecipes(getWorld());
+        if (rotaryRecipes != cachedRotaryRecipes) {
+            List<RotaryRecipe> condensentrating = new ArrayList<>();
+            List<RotaryRecipe> decondensentrating = new ArrayList<>();
+            for (RotaryRecipe recipe : rotaryRecipes) {
+                if (recipe.hasGasToFluid()) {
+                    condensentrating.add(recipe);
+                }
+                if (recipe.hasFluidToGas()) {
+                    decondensentrating.add(recipe);
+                }
             }
+            condensentratorRecipes = Collections.unmodifiableList(condensentrating);
+            decondensentratorRecipes = Collections.unmodifiableList(decondensentrating);
+            cachedRotaryRecipes = rotaryRecipes;
         }
         register(registry, MekanismJEIRecipeType.CONDENSENTRATING, condensentratorRecipes);
         register(registry, MekanismJEIRecipeType.DECONDENSENTRATING, decondensentratorRecipes);
@@ -52,21 +73,24 @@ public class RecipeRegistryHelper {
     }
 
     public static void registerNutritionalLiquifier(IRecipeRegistration registry) {
-        List<ItemStackToFluidRecipe> list = new ArrayList<>();
-        for (Item item : ForgeRegistries.ITEMS.getValues()) {
-            if (item.isEdible()) {
-                ItemStack stack = new ItemStack(item);
-                //TODO: If any mods adds presets to the creative menu we may want to consider gathering all
-                // deduplicating and then add recipes for them in JEI
-                FoodProperties food = stack.getFoodProperties(null);
-                //Only display consuming foods that provide healing as otherwise no paste will be made
-                if (food != null && food.getNutrition() > 0) {
-                    list.add(new NutritionalLiquifierIRecipe(item, IngredientCreatorAccess.item().from(stack),
-                          MekanismFluids.NUTRITIONAL_PASTE.getFluidStack(food.getNutrition() * 50)));
+        if (nutritionalLiquifierRecipes == null) {
+            List<ItemStackToFluidRecipe> list = new ArrayList<>();
+            for (Item item : ForgeRegistries.ITEMS.getValues()) {
+                if (item.isEdible()) {
+                    ItemStack stack = new ItemStack(item);
+                    //TODO: If any mods adds presets to the creative menu we may want to consider gathering all
+                    // deduplicating and then add recipes for them in JEI
+                    FoodProperties food = stack.getFoodProperties(null);
+                    //Only display consuming foods that provide healing as otherwise no paste will be made
+                    if (food != null && food.getNutrition() > 0) {
+                        list.add(new NutritionalLiquifierIRecipe(item, IngredientCreatorAccess.item().from(stack),
+                              MekanismFluids.NUTRITIONAL_PASTE.getFluidStack(food.getNutrition() * 50)));
+                    }
                 }
             }
+            nutritionalLiquifierRecipes = Collections.unmodifiableList(list);
         }
-        register(registry, MekanismJEIRecipeType.NUTRITIONAL_LIQUIFICATION, list);
+        register(registry, MekanismJEIRecipeType.NUTRITIONAL_LIQUIFICATION, nutritionalLiquifierRecipes);
     }
 
     public static void addAnvilRecipes(IRecipeRegistration registry, IItemProvider item, Function<Item, ItemStack[]> repairMaterials) {
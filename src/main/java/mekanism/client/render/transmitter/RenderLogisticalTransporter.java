@@ -157,7 +157,8 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         private TransportInformation(TransporterStack transporterStack) {
             this.progress = transporterStack.progress;
             this.color = transporterStack.color;
-            this.item = HashedItem.create(transporterStack.itemStack);
+            //Note: We can use a raw hashed item as the information only lives for the duration of the render call
+            this.item = HashedItem.raw(transporterStack.itemStack);
         }
 
         @Override
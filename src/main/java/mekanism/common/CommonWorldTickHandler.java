@@ -4,19 +4,22 @@ import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMaps;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.Map;
-import java.util.Queue;
 import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.integration.computer.ComputerSnapshot;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.chunkloading.ChunkTicketManager;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
+import mekanism.common.world.RetrogenQueue;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -47,7 +50,7 @@ public class CommonWorldTickHandler {
     //TODO: I believe this may be fine as is with just the load and save methods being synchronized
     // but there is a chance this is not the case in which case we should adjust how this is done
     private Map<ResourceLocation, Object2IntMap<ChunkPos>> chunkVersions;
-    private Map<ResourceLocation, Queue<ChunkPos>> chunkRegenMap;
+    private Map<ResourceLocation, RetrogenQueue> chunkRegenMap;
     public static boolean flushTagAndRecipeCaches;
     public static boolean monitoringCardboardBox;
 
@@ -55,17 +58,14 @@ public class CommonWorldTickHandler {
         if (chunkRegenMap == null) {
             chunkRegenMap = new Object2ObjectArrayMap<>();
         }
-        ResourceLocation dimensionName = dimension.location();
-        if (!chunkRegenMap.containsKey(dimensionName)) {
-            LinkedList<ChunkPos> list = new LinkedList<>();
-            list.add(chunkCoord);
-            chunkRegenMap.put(dimensionName, list);
-        } else {
-            Queue<ChunkPos> regenPositions = chunkRegenMap.get(dimensionName);
-            if (!regenPositions.contains(chunkCoord)) {
-                regenPositions.add(chunkCoord);
-            }
-        }
+        chunkRegenMap.computeIfAbsent(dimension.location(), dim -> new RetrogenQueue()).add(chunkCoord);
+    }
+
+    /**
+     * @return Map of dimension to the retrogen queue for that dimension, for use in displaying the progress of retrogen.
+     */
+    public Map<ResourceLocation, RetrogenQueue> getRetrogenQueues() {
+        return chunkRegenMap == null ? Collections.emptyMap() : Collections.unmodifiableMap(chunkRegenMap);
     }
 
     public void resetChunkData() {
@@ -184,6 +184,9 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         RadiationManager.INSTANCE.tickServer();
+        ComputerSnapshot.tick();
+        ChunkTicketManager.INSTANCE.tick();
+        TransporterManager.tick();
     }
 
     private void tickEnd(ServerLevel world) {
@@ -206,31 +209,33 @@ public class CommonWorldTickHandler {
             }
             ResourceLocation dimensionName = world.dimension().location();
             //Credit to E. Beef
-            if (chunkRegenMap.containsKey(dimensionName)) {
-                Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionName);
-                Object2IntMap<ChunkPos> dimensionChunkVersions = chunkVersions.getOrDefault(dimensionName, Object2IntMaps.emptyMap());
+            RetrogenQueue chunksToGen = chunkRegenMap.get(dimensionName);
+            if (chunksToGen != null) {
+                Object2IntMap<ChunkPos> dimensionChunkVersions = chunkVersions == null ? Object2IntMaps.emptyMap()
+                                                                                       : chunkVersions.getOrDefault(dimensionName, Object2IntMaps.emptyMap());
                 long startTime = System.nanoTime();
                 while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) {
                     ChunkPos nextChunk = chunksToGen.poll();
-                    if (nextChunk == null) {
-                        break;
-                    }
                     //Ensure the chunk actually exists and is still loaded before trying to retrogen it
                     if (WorldUtils.isChunkLoaded(world, nextChunk)) {
-                        if (GenHandler.generate(world, nextChunk)) {
-                            Mekanism.logger.info("Regenerating ores and salt at chunk {}", nextChunk);
+                        boolean generated = GenHandler.generate(world, nextChunk);
+                        if (generated) {
+                            Mekanism.logger.debug("Regenerating ores and salt at chunk {}", nextChunk);
                         }
+                        chunksToGen.markProcessed(generated);
                         //Regardless of whether we were able to generate anything in the chunk, now that we have
                         // handled it, update the chunk version. We do this by removing tracking the chunk's
                         // version so that we can just default it to the latest version when saved and free up the
                         // memory as early as possible
-                        if (chunkVersions != null) {
+                        if (!dimensionChunkVersions.isEmpty()) {
                             dimensionChunkVersions.removeInt(nextChunk);
                         }
                     }
                 }
                 if (chunksToGen.isEmpty()) {
                     chunkRegenMap.remove(dimensionName);
+                    Mekanism.logger.info("Finished retrogen in {}, processed {} chunks and generated ores and salt in {} of them.", dimensionName,
+                          chunksToGen.getProcessed(), chunksToGen.getGenerated());
                 }
             }
         }
@@ -138,6 +138,8 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_FLUSH("command", "chunk.flush"),
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
+    COMMAND_CHUNK_TICKETS("command", "chunk.tickets"),
+    COMMAND_CHUNK_NO_TICKETS("command", "chunk.no_tickets"),
     COMMAND_DEBUG("command", "debug"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
@@ -153,6 +155,8 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_CLEAR_ENTITY("command", "radiation.clear.entity"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
+    COMMAND_RETROGEN_PROGRESS("command", "retrogen.progress"),
+    COMMAND_RETROGEN_NONE_QUEUED("command", "retrogen.none_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
     //Transmission types
@@ -37,6 +37,7 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_CHUNK = nodeOpCommand("chunk");
     public static final CommandPermissionNode COMMAND_CHUNK_CLEAR = nodeSubCommand(COMMAND_CHUNK, "clear");
     public static final CommandPermissionNode COMMAND_CHUNK_FLUSH = nodeSubCommand(COMMAND_CHUNK, "flush");
+    public static final CommandPermissionNode COMMAND_CHUNK_TICKETS = nodeSubCommand(COMMAND_CHUNK, "tickets");
     public static final CommandPermissionNode COMMAND_CHUNK_UNWATCH = nodeSubCommand(COMMAND_CHUNK, "unwatch");
     public static final CommandPermissionNode COMMAND_CHUNK_WATCH = nodeSubCommand(COMMAND_CHUNK, "watch");
 
@@ -3,6 +3,7 @@ package mekanism.common.base;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,6 +34,7 @@ import net.minecraftforge.registries.ForgeRegistries;
 import net.minecraftforge.registries.tags.ITag;
 import net.minecraftforge.registries.tags.ITagManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 //TODO: Try to come up with a better name for this class given it also handles things like materials, and modids
 public final class TagCache {
@@ -50,8 +52,21 @@ public final class TagCache {
     private static final Object2BooleanMap<String> blockTagBlacklistedElements = new Object2BooleanOpenHashMap<>();
     private static final Object2BooleanMap<String> modIDBlacklistedElements = new Object2BooleanOpenHashMap<>();
     private static final Object2BooleanMap<Material> materialBlacklistedElements = new Object2BooleanOpenHashMap<>();
+    /**
+     * Immutable index of item to the names of all tags the item is in. Built the first time it is needed after tags are (re)loaded and then replaced as a whole, so
+     * that it can safely be read from both the client and server threads.
+     */
+    @Nullable
+    private static volatile Map<Item, List<String>> itemTagIndex;
+    /**
+     * Incremented every time tags are reloaded, so that things which memoize tag based results can tell if their results are stale even if they were not running at
+     * the time of the reload.
+     */
+    private static volatile int tagGeneration;
 
     public static void resetTagCaches() {
+        itemTagIndex = null;
+        tagGeneration++;
         blockTagStacks.clear();
         itemTagStacks.clear();
         tileEntityTypeTagCache.clear();
@@ -61,8 +76,41 @@ public final class TagCache {
         materialBlacklistedElements.clear();
     }
 
+    /**
+     * @return Number of times tags have been reloaded, used to check if memoized tag based results are still valid.
+     */
+    public static int getTagGeneration() {
+        return tagGeneration;
+    }
+
     public static List<String> getItemTags(@NotNull ItemStack check) {
-        return getTagsAsStrings(check.getTags());
+        return getItemTags(check.getItem());
+    }
+
+    /**
+     * @return Immutable list of the names of all tags the given item is in.
+     */
+    public static List<String> getItemTags(@NotNull Item item) {
+        Map<Item, List<String>> index = itemTagIndex;
+        if (index == null) {
+            itemTagIndex = index = buildItemTagIndex();
+        }
+        return index.getOrDefault(item, Collections.emptyList());
+    }
+
+    private static Map<Item, List<String>> buildItemTagIndex() {
+        Map<Item, List<String>> index = new Reference2ObjectOpenHashMap<>();
+        for (ITag<Item> tag : TagUtils.manager(ForgeRegistries.ITEMS)) {
+            if (!tag.isEmpty()) {
+                //Note: We only create the name once per tag so that all items in the tag share the same string instance
+                String tagName = tag.getKey().location().toString();
+                for (Item item : tag) {
+                    index.computeIfAbsent(item, i -> new ArrayList<>()).add(tagName);
+                }
+            }
+        }
+        index.replaceAll((item, tags) -> List.copyOf(tags));
+        return Collections.unmodifiableMap(index);
     }
 
     public static List<String> getTileEntityTypeTags(@NotNull Block block) {
@@ -114,7 +114,8 @@ public class BasicEnergyContainer implements IEnergyContainer {
             stored = stored.plusEqual(toAdd);
             onContentsChanged();
         }
-        return amount.subtract(toAdd);
+        //Note: If we were able to accept all the energy, we can skip creating a new object to represent that there is no remainder
+        return toAdd == amount ? FloatingLong.ZERO : amount.subtract(toAdd);
     }
 
     @Override
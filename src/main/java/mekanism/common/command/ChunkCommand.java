@@ -3,18 +3,23 @@ package mekanism.common.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.Map;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
+import mekanism.common.lib.chunkloading.ChunkTicketManager;
+import mekanism.common.lib.chunkloading.ChunkTicketManager.DimensionTickets;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.ColumnPosArgument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ColumnPos;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -33,7 +38,8 @@ public class ChunkCommand {
               .then(WatchCommand.register())
               .then(UnwatchCommand.register())
               .then(ClearCommand.register())
-              .then(FlushCommand.register());
+              .then(FlushCommand.register())
+              .then(TicketsCommand.register());
     }
 
     private static class WatchCommand {
@@ -112,6 +118,30 @@ public class ChunkCommand {
         }
     }
 
+    private static class TicketsCommand {
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("tickets")
+                  .requires(MekanismPermissions.COMMAND_CHUNK_TICKETS)
+                  .executes(ctx -> {
+                      CommandSourceStack source = ctx.getSource();
+                      boolean hasTickets = false;
+                      for (Map.Entry<ResourceKey<Level>, DimensionTickets> entry : ChunkTicketManager.INSTANCE.getDimensions().entrySet()) {
+                          DimensionTickets tickets = entry.getValue();
+                          if (tickets.getTicketCount() > 0) {
+                              hasTickets = true;
+                              source.sendSuccess(MekanismLang.COMMAND_CHUNK_TICKETS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey().location(),
+                                    EnumColor.INDIGO, tickets.getTicketCount(), EnumColor.INDIGO, tickets.getChunkCount()), false);
+                          }
+                      }
+                      if (!hasTickets) {
+                          source.sendSuccess(MekanismLang.COMMAND_CHUNK_NO_TICKETS.translateColored(EnumColor.GRAY), false);
+                      }
+                      return 0;
+                  });
+        }
+    }
+
     @SubscribeEvent
     public static void onChunkLoad(ChunkEvent.Load event) {
         handleChunkEvent(event, MekanismLang.COMMAND_CHUNK_LOADED);
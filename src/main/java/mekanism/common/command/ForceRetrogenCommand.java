@@ -3,11 +3,13 @@ package mekanism.common.command;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.util.Map;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.world.RetrogenQueue;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
@@ -15,6 +17,7 @@ import net.minecraft.commands.arguments.coordinates.ColumnPosArgument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ColumnPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
@@ -32,7 +35,9 @@ public class ForceRetrogenCommand {
                   BlockPos blockPos = new BlockPos(ctx.getSource().getPosition());
                   ColumnPos pos = new ColumnPos(blockPos.getX(), blockPos.getZ());
                   return addChunksToRegen(ctx.getSource(), pos, pos);
-              }).then(Commands.argument("from", ColumnPosArgument.columnPos())
+              }).then(Commands.literal("progress")
+                    .executes(ctx -> showProgress(ctx.getSource()))
+              ).then(Commands.argument("from", ColumnPosArgument.columnPos())
                     .executes(ctx -> {
                         ColumnPos from = ColumnPosArgument.getColumnPos(ctx, "from");
                         return addChunksToRegen(ctx.getSource(), from, from);
@@ -75,4 +80,18 @@ public class ForceRetrogenCommand {
         }
         return 0;
     }
+
+    private static int showProgress(CommandSourceStack source) {
+        Map<ResourceLocation, RetrogenQueue> retrogenQueues = Mekanism.worldTickHandler.getRetrogenQueues();
+        if (retrogenQueues.isEmpty()) {
+            source.sendSuccess(MekanismLang.COMMAND_RETROGEN_NONE_QUEUED.translateColored(EnumColor.GRAY), true);
+        } else {
+            for (Map.Entry<ResourceLocation, RetrogenQueue> entry : retrogenQueues.entrySet()) {
+                RetrogenQueue queue = entry.getValue();
+                source.sendSuccess(MekanismLang.COMMAND_RETROGEN_PROGRESS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey(), EnumColor.INDIGO,
+                      queue.getProcessed(), EnumColor.INDIGO, queue.getGenerated(), EnumColor.INDIGO, queue.getRemaining()), true);
+            }
+        }
+        return retrogenQueues.size();
+    }
 }
\ No newline at end of file
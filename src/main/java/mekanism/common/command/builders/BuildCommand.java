@@ -4,8 +4,6 @@ import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayDeque;
 import java.util.HashSet;
 import java.util.Optional;
@@ -16,6 +14,7 @@ import mekanism.api.text.ILangEntry;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.RegistryUtils;
@@ -30,7 +29,6 @@ import net.minecraft.world.Clearable;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import org.jetbrains.annotations.NotNull;
@@ -91,7 +89,7 @@ public class BuildCommand {
     }
 
     private static void destroy(Level world, BlockPos pos) throws CommandSyntaxException {
-        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        ChunkAccessCache chunkMap = new ChunkAccessCache();
         if (!isMekanismBlock(world, chunkMap, pos)) {
             //If we didn't hit a mekanism block throw an error that we missed
             throw MISS.create();
@@ -115,7 +113,7 @@ public class BuildCommand {
         }
     }
 
-    private static boolean isMekanismBlock(@Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    private static boolean isMekanismBlock(@Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         Optional<BlockState> state = WorldUtils.getBlockState(world, chunkMap, pos);
         return state.isPresent() && RegistryUtils.getNamespace(state.get().getBlock()).startsWith(Mekanism.MODID);
     }
@@ -87,6 +87,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerMaxMinesPerTick;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -229,6 +230,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerMaxMinesPerTick = CachedIntValue.wrap(this, builder.comment("Maximum number of blocks a Digital Miner can mine in a single tick when its speed upgrades would let it mine more than one block per tick.")
+              .defineInRange("maxMinesPerTick", 16, 1, 1_024));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
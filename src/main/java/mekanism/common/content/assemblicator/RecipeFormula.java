@@ -2,8 +2,12 @@ package mekanism.common.content.assemblicator;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.List;
+import java.util.Map;
 import mekanism.api.inventory.IInventorySlot;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
@@ -17,10 +21,16 @@ import org.jetbrains.annotations.Nullable;
 
 public class RecipeFormula {
 
+    private static final int MAX_CACHED_INGREDIENTS = 256;
+
     public final NonNullList<ItemStack> input = NonNullList.withSize(9, ItemStack.EMPTY);
     @Nullable
     public CraftingRecipe recipe;
     private final CraftingContainer dummy = MekanismUtils.getDummyCraftingInv();
+    /**
+     * Positions in the grid that each item type is a valid ingredient for, cleared when the inputs of the formula change.
+     */
+    private final Map<HashedItem, IntList> ingredientIndices = new Object2ObjectOpenHashMap<>();
 
     public RecipeFormula(Level world, NonNullList<ItemStack> inv) {
         for (int i = 0; i < 9; i++) {
@@ -77,19 +87,29 @@ public class RecipeFormula {
     public boolean isIngredientInPos(Level world, ItemStack stack, int i) {
         if (recipe == null) {
             return false;
-        } else if (stack.isEmpty() && !input.get(i).isEmpty()) {
+        } else if (stack.isEmpty()) {
             //If the stack being checked is empty but the input isn't expected to be empty,
             // mark it as not being correct for the position
-            return false;
+            if (!input.get(i).isEmpty()) {
+                return false;
+            }
+            resetToRecipe();
+            return recipe.matches(dummy, world);
         }
-        resetToRecipe();
-        dummy.setItem(i, stack);
-        return recipe.matches(dummy, world);
+        return getIngredientIndices(world, stack).contains(i);
     }
 
+    /**
+     * @return Unmodifiable list of the positions in the grid the given stack is a valid ingredient for.
+     */
     public IntList getIngredientIndices(Level world, ItemStack stack) {
-        IntList ret = new IntArrayList();
-        if (recipe != null) {
+        if (recipe == null) {
+            return IntLists.emptyList();
+        }
+        IntList indices = ingredientIndices.get(HashedItem.raw(stack));
+        if (indices == null) {
+            IntList ret = new IntArrayList();
+            resetToRecipe();
             for (int i = 0; i < 9; i++) {
                 dummy.setItem(i, stack);
                 if (recipe.matches(dummy, world)) {
@@ -97,8 +117,21 @@ public class RecipeFormula {
                 }
                 dummy.setItem(i, input.get(i));
             }
+            indices = ret.isEmpty() ? IntLists.emptyList() : IntLists.unmodifiable(ret);
+            if (ingredientIndices.size() >= MAX_CACHED_INGREDIENTS) {
+                ingredientIndices.clear();
+            }
+            //Note: We store a copy of the stack as the one we were given may be backed by an inventory
+            ingredientIndices.put(HashedItem.create(stack), indices);
         }
-        return ret;
+        return indices;
+    }
+
+    /**
+     * Clears the cached ingredient positions, for example when tags or recipes are reloaded.
+     */
+    public void flushIngredientCache() {
+        ingredientIndices.clear();
     }
 
     public boolean isValidFormula() {
@@ -116,6 +149,7 @@ public class RecipeFormula {
 
     public void setStack(Level world, int index, ItemStack stack) {
         input.set(index, stack);
+        ingredientIndices.clear();
         resetToRecipe();
         recipe = getRecipeFromGrid(dummy, world);
     }
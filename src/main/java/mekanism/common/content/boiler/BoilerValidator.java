@@ -1,11 +1,11 @@
 package mekanism.common.content.boiler;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Optional;
 import java.util.Set;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
@@ -18,7 +18,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockData> {
 
@@ -34,7 +33,7 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
     }
 
     @Override
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    protected boolean validateInner(BlockState state, ChunkAccessCache chunkMap, BlockPos pos) {
         if (super.validateInner(state, chunkMap, pos)) {
             return true;
         }
@@ -42,7 +41,7 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
     }
 
     @Override
-    public FormationResult postcheck(BoilerMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult postcheck(BoilerMultiblockData structure, ChunkAccessCache chunkMap) {
         Set<BlockPos> dispersers = new ObjectOpenHashSet<>();
         Set<BlockPos> elements = new ObjectOpenHashSet<>();
         for (BlockPos pos : structure.internalLocations) {
@@ -128,7 +127,7 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
         return FormationResult.SUCCESS;
     }
 
-    private boolean isAirOrFrame(Long2ObjectMap<ChunkAccess> chunkMap, BlockPos airPos) {
+    private boolean isAirOrFrame(ChunkAccessCache chunkMap, BlockPos airPos) {
         Optional<BlockState> stateOptional = WorldUtils.getBlockState(world, chunkMap, airPos);
         return (stateOptional.isPresent() && stateOptional.get().isAir()) ||
                isFrameCompatible(WorldUtils.getTileEntity(world, chunkMap, airPos));
@@ -6,7 +6,6 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import mekanism.api.Action;
@@ -57,7 +56,6 @@ import mekanism.common.util.EmitUtils;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -220,6 +218,7 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
 
     @Override
     public void onContentsChanged() {
+        markNeedsSave();
     }
 
     @Override
@@ -261,32 +260,17 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
                         //Skip trying to eject for this QE if it can't function
                         continue;
                     }
-                    Map<Direction, BlockEntity> adjacentTiles = null;
                     for (Map.Entry<TransmissionType, BiConsumer<BlockEntity, Direction>> entry : typesToEject.entrySet()) {
                         TransmissionType transmissionType = entry.getKey();
                         ConfigInfo config = qe.getConfig().getConfig(transmissionType);
                         //Validate the ejector for the config allows ejecting this transmission type. In theory, we already check all
                         // of this except config#isEjecting before we get here, but we do so anyway for consistency
                         if (config != null && qe.getEjector().isEjecting(config, transmissionType)) {
-                            Set<Direction> outputSides = config.getAllOutputtingSides();
-                            if (!outputSides.isEmpty()) {
-                                if (adjacentTiles == null) {
-                                    //Lazy init the map of adjacent tiles
-                                    adjacentTiles = new EnumMap<>(Direction.class);
-                                }
-                                for (Direction side : outputSides) {
-                                    BlockEntity tile;
-                                    if (adjacentTiles.containsKey(side)) {
-                                        //Need to use contains because we allow for null values
-                                        tile = adjacentTiles.get(side);
-                                    } else {
-                                        //Get tile and provide if not null and the block is loaded, prevents ghost chunk loading
-                                        tile = WorldUtils.getTileEntity(qe.getLevel(), qe.getBlockPos().relative(side));
-                                        adjacentTiles.put(side, tile);
-                                    }
-                                    if (tile != null) {
-                                        entry.getValue().accept(tile, side);
-                                    }
+                            for (Direction side : config.getAllOutputtingSides()) {
+                                //Note: The entangloporter caches its adjacent tiles so that we don't have to look them up for every entangloporter each tick
+                                BlockEntity tile = qe.getAdjacentTile(side);
+                                if (tile != null) {
+                                    entry.getValue().accept(tile, side);
                                 }
                             }
                         }
@@ -1,9 +1,9 @@
 package mekanism.common.content.evaporation;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.EnumSet;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidSide;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
@@ -18,7 +18,6 @@ import mekanism.common.tile.multiblock.TileEntityThermalEvaporationController;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class EvaporationValidator extends CuboidStructureValidator<EvaporationMultiblockData> {
 
@@ -74,7 +73,7 @@ public class EvaporationValidator extends CuboidStructureValidator<EvaporationMu
     }
 
     @Override
-    public FormationResult postcheck(EvaporationMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult postcheck(EvaporationMultiblockData structure, ChunkAccessCache chunkMap) {
         if (!foundController) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_NO_CONTROLLER);
         }
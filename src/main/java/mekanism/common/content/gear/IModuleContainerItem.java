@@ -69,6 +69,7 @@ public interface IModuleContainerItem extends IItemHUDProvider {
             } else {
                 CompoundTag modules = ItemDataUtils.getCompound(stack, NBTConstants.MODULES);
                 modules.remove(type.getRegistryName().toString());
+                ModuleHelper.INSTANCE.invalidateCache(stack);
                 module.onRemoved(true);
             }
         }
@@ -78,6 +79,7 @@ public interface IModuleContainerItem extends IItemHUDProvider {
         Module<?> module = ModuleHelper.INSTANCE.load(stack, type);
         if (module == null) {
             ItemDataUtils.getOrAddCompound(stack, NBTConstants.MODULES).put(type.getRegistryName().toString(), new CompoundTag());
+            ModuleHelper.INSTANCE.invalidateCache(stack);
             ModuleHelper.INSTANCE.load(stack, type).onAdded(true);
         } else {
             module.setInstalledCount(module.getInstalledCount() + 1);
@@ -1,5 +1,7 @@
 package mekanism.common.content.gear;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMaps;
@@ -54,6 +56,12 @@ public class ModuleHelper implements IModuleHelper {
     private final Map<Item, Set<ModuleData<?>>> supportedModules = new Object2ObjectOpenHashMap<>(5);
     private final Map<ModuleData<?>, Set<Item>> supportedContainers = new Object2ObjectOpenHashMap<>();
     private final Map<ModuleData<?>, Set<ModuleData<?>>> conflictingModules = new Object2ObjectOpenHashMap<>();
+    /**
+     * Decoded modules keyed by the stack they were decoded from. The keys are weak, which also makes the cache compare stacks by identity. As the decoded modules keep
+     * a strong reference to their container, the values are soft so that they don't keep the key alive indefinitely: the JVM clears soft references that haven't
+     * been accessed recently, which lets stacks that are no longer in use be collected while stacks that are queried every tick stay cached.
+     */
+    private final Cache<ItemStack, CachedModules> moduleCache = CacheBuilder.newBuilder().weakKeys().softValues().build();
 
     public void processIMC() {
         Map<ModuleData<?>, ImmutableSet.Builder<Item>> supportedContainersBuilderMap = new Object2ObjectOpenHashMap<>();
@@ -131,43 +139,97 @@ public class ModuleHelper implements IModuleHelper {
     @Nullable
     @Override
     public <MODULE extends ICustomModule<MODULE>> Module<MODULE> load(ItemStack container, IModuleDataProvider<MODULE> typeProvider) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            return load(container, typeProvider.getModuleData(), modulesTag, null);
-        }
-        return null;
+        CachedModules cachedModules = getCachedModules(container);
+        return cachedModules == null ? null : (Module<MODULE>) cachedModules.byType().get(typeProvider.getModuleData());
     }
 
     @Override
     public List<Module<?>> loadAll(ItemStack container) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            List<Module<?>> modules = new ArrayList<>();
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
-                Module<?> module = load(container, moduleType, modulesTag, null);
-                if (module != null) {
-                    modules.add(module);
-                }
-            }
-            return modules;
-        }
-        return Collections.emptyList();
+        CachedModules cachedModules = getCachedModules(container);
+        return cachedModules == null ? Collections.emptyList() : cachedModules.modules();
     }
 
     @Override
     public <MODULE extends ICustomModule<?>> List<Module<? extends MODULE>> loadAll(ItemStack container, Class<MODULE> moduleClass) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            List<Module<? extends MODULE>> modules = new ArrayList<>();
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
-                Module<?> module = load(container, moduleType, modulesTag, moduleClass);
-                if (module != null) {
-                    modules.add((Module<? extends MODULE>) module);
+        CachedModules cachedModules = getCachedModules(container);
+        if (cachedModules == null) {
+            return Collections.emptyList();
+        }
+        List<Module<? extends MODULE>> modules = new ArrayList<>();
+        for (Module<?> module : cachedModules.modules()) {
+            if (moduleClass.isInstance(module.getCustomInstance())) {
+                modules.add((Module<? extends MODULE>) module);
+            }
+        }
+        return modules;
+    }
+
+    /**
+     * Decodes a new copy of all the modules on the given container, bypassing the cache. This should be used instead of {@link #loadAll(ItemStack)} when modifying
+     * and saving several modules in a row, as saving a module invalidates the cached modules of its container.
+     *
+     * @return Mutable list of newly decoded modules.
+     */
+    public List<Module<?>> loadAllUncached(ItemStack container) {
+        CompoundTag modulesTag = getModulesTag(container);
+        return modulesTag == null ? new ArrayList<>() : decodeModules(container, modulesTag, null);
+    }
+
+    @Nullable
+    private CompoundTag getModulesTag(ItemStack container) {
+        if (!(container.getItem() instanceof IModuleContainerItem)) {
+            return null;
+        }
+        CompoundTag dataMap = ItemDataUtils.getDataMapIfPresent(container);
+        if (dataMap == null || !dataMap.contains(NBTConstants.MODULES, Tag.TAG_COMPOUND)) {
+            return null;
+        }
+        return dataMap.getCompound(NBTConstants.MODULES);
+    }
+
+    private List<Module<?>> decodeModules(ItemStack container, CompoundTag modulesTag, @Nullable Map<ModuleData<?>, Module<?>> byType) {
+        List<Module<?>> modules = new ArrayList<>();
+        for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
+            Module<?> module = load(container, moduleType, modulesTag);
+            if (module != null) {
+                modules.add(module);
+                if (byType != null) {
+                    byType.put(moduleType, module);
                 }
             }
-            return modules;
         }
-        return Collections.emptyList();
+        return modules;
+    }
+
+    /**
+     * Gets the decoded modules for the given container, reusing the previously decoded modules if the stack's modules tag is still the same tag we decoded them
+     * from.
+     *
+     * @return Decoded modules, or {@code null} if the stack is not a module container or has no modules installed.
+     */
+    @Nullable
+    private CachedModules getCachedModules(ItemStack container) {
+        CompoundTag modulesTag = getModulesTag(container);
+        if (modulesTag == null) {
+            return null;
+        }
+        CachedModules cachedModules = moduleCache.getIfPresent(container);
+        if (cachedModules == null || cachedModules.modulesTag() != modulesTag) {
+            //Note: We compare the tag by identity as copying the stack or syncing it from the server will create a new tag
+            Map<ModuleData<?>, Module<?>> byType = new Object2ObjectOpenHashMap<>();
+            List<Module<?>> modules = decodeModules(container, modulesTag, byType);
+            cachedModules = new CachedModules(modulesTag, Collections.unmodifiableList(modules), byType);
+            moduleCache.put(container, cachedModules);
+        }
+        return cachedModules;
+    }
+
+    /**
+     * Invalidates any decoded modules for the given container. This should be called whenever the modules tag of the stack is modified in place, such as when
+     * a module's settings are saved or when a module is installed or removed.
+     */
+    public void invalidateCache(ItemStack container) {
+        moduleCache.invalidate(container);
     }
 
     @Override
@@ -220,15 +282,12 @@ public class ModuleHelper implements IModuleHelper {
     }
 
     @Nullable
-    private <MODULE extends ICustomModule<MODULE>> Module<MODULE> load(ItemStack container, ModuleData<MODULE> type, CompoundTag modulesTag,
-          @Nullable Class<? extends ICustomModule<?>> typeFilter) {
+    private <MODULE extends ICustomModule<MODULE>> Module<MODULE> load(ItemStack container, ModuleData<MODULE> type, CompoundTag modulesTag) {
         String registryName = type.getRegistryName().toString();
         if (modulesTag.contains(registryName, Tag.TAG_COMPOUND)) {
             Module<MODULE> module = new Module<>(type, container);
-            if (typeFilter == null || typeFilter.isInstance(module.getCustomInstance())) {
-                module.read(modulesTag.getCompound(registryName));
-                return module;
-            }
+            module.read(modulesTag.getCompound(registryName));
+            return module;
         }
         return null;
     }
@@ -257,4 +316,7 @@ public class ModuleHelper implements IModuleHelper {
     public synchronized void addMekaSuitModuleModelSpec(String name, IModuleDataProvider<?> moduleDataProvider, EquipmentSlot slotType, Predicate<LivingEntity> isActive) {
         MekaSuitArmor.registerModule(name, moduleDataProvider, slotType, isActive);
     }
+
+    private record CachedModules(CompoundTag modulesTag, List<Module<?>> modules, Map<ModuleData<?>, Module<?>> byType) {
+    }
 }
\ No newline at end of file
@@ -111,17 +111,17 @@ public class MatrixMultiblockData extends MultiblockData {
         return isRemote() ? clientMaxEnergy : energyContainer.getMaxEnergy();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public FloatingLong getTransferCap() {
         return isRemote() ? clientMaxTransfer : energyContainer.getMaxTransfer();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public FloatingLong getLastInput() {
         return isRemote() ? clientLastInput : energyContainer.getLastInput();
     }
 
-    @ComputerMethod
+    @ComputerMethod(snapshot = true)
     public FloatingLong getLastOutput() {
         return isRemote() ? clientLastOutput : energyContainer.getLastOutput();
     }
@@ -1,9 +1,9 @@
 package mekanism.common.content.matrix;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.List;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -15,7 +15,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockData> {
 
@@ -34,7 +33,7 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
     }
 
     @Override
-    public boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    public boolean validateInner(BlockState state, ChunkAccessCache chunkMap, BlockPos pos) {
         if (super.validateInner(state, chunkMap, pos)) {
             return true;
         }
@@ -56,7 +55,7 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
     }
 
     @Override
-    public FormationResult postcheck(MatrixMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult postcheck(MatrixMultiblockData structure, ChunkAccessCache chunkMap) {
         cells.forEach(structure::addCell);
         providers.forEach(structure::addProvider);
         return FormationResult.SUCCESS;
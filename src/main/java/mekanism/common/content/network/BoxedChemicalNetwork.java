@@ -34,6 +34,7 @@ import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSave
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.AcceptorBackoff;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
@@ -58,6 +59,8 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    @Nullable
+    private ChemicalHandlerTarget<?, ?, ?> emitTarget;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -244,21 +247,42 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
         Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
+        AcceptorBackoff<BoxedChemicalHandler> backoff = acceptorCache.getBackoff();
+        backoff.tick();
+        //Reuse the same target each tick rather than allocating a new one and its backing lists. The target only ever holds handlers for
+        // the type of chemical currently being sent, and is cleared after each use, so it is safe to reuse it across chemical types
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target;
+        if (emitTarget == null) {
+            target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
+            emitTarget = target;
+        } else {
+            target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emitTarget;
+            target.setType(stack);
+        }
         for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
             for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
+                if (backoff.shouldSkip(lazyAcceptor)) {
+                    continue;
+                }
                 lazyAcceptor.ifPresent(acceptor -> {
                     IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
                     if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
                         target.addHandler(handler);
+                        backoff.accepted(lazyAcceptor);
+                    } else {
+                        backoff.rejected(lazyAcceptor);
                     }
                 });
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        long sent = EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        //Clear the target so that we don't hold onto references of the handlers until the next tick
+        target.clear();
+        return sent;
     }
 
     @Override
@@ -345,6 +369,8 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         BoxedChemical type = current == Current.EMPTY ? BoxedChemical.EMPTY : BoxedChemical.box(chemicalTank.getTankFromCurrent(current).getType());
         if (!lastChemical.equals(type)) {
             //If the chemical type does not match update it, and mark that we need an update
+            // and recheck any acceptors that rejected the previous type
+            acceptorCache.getBackoff().wake();
             if (!type.isEmpty()) {
                 lastChemical = type;
             }
@@ -11,6 +11,7 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
@@ -33,6 +34,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    /**
+     * Scratch accumulator for calculations that would otherwise create multiple intermediary objects.
+     *
+     * @implNote Only used from synchronized methods or methods that are only called from the main thread.
+     */
+    private final FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -59,12 +66,14 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         FloatingLong oldCapacity = getCapacityAsFloatingLong();
         List<UniversalCable> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
         //Merge the energy scales
-        FloatingLong ourScale = currentScale == 0 ? FloatingLong.ZERO : oldCapacity.multiply(currentScale);
-        FloatingLong theirScale = net.currentScale == 0 ? FloatingLong.ZERO : net.getCapacityAsFloatingLong().multiply(net.currentScale);
+        //Note: As the scale is a float anyway, we calculate it using doubles to avoid creating intermediary floating longs
+        double ourScale = currentScale == 0 ? 0 : oldCapacity.doubleValue() * currentScale;
+        double theirScale = net.currentScale == 0 ? 0 : net.getCapacityAsFloatingLong().doubleValue() * net.currentScale;
         FloatingLong capacity = getCapacityAsFloatingLong();
-        currentScale = Math.min(1, capacity.isZero() ? 0 : ourScale.add(theirScale).divide(getCapacityAsFloatingLong()).floatValue());
+        currentScale = (float) Math.min(1, capacity.isZero() ? 0 : (ourScale + theirScale) / capacity.doubleValue());
         if (!isRemote() && !net.energyContainer.isEmpty()) {
-            energyContainer.setEnergy(energyContainer.getEnergy().add(net.getBuffer()));
+            //Note: We can pass the accumulator's value directly as setEnergy makes a copy
+            energyContainer.setEnergy(accumulator.set(energyContainer.getEnergy()).plus(net.getBuffer()).peek());
             net.energyContainer.setEmpty();
         }
         return transmittersToUpdate;
@@ -80,7 +89,8 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public void absorbBuffer(UniversalCable transmitter) {
         FloatingLong energy = transmitter.releaseShare();
         if (!energy.isZero()) {
-            energyContainer.setEnergy(energyContainer.getEnergy().add(energy));
+            //Note: We can pass the accumulator's value directly as setEnergy makes a copy
+            energyContainer.setEnergy(accumulator.set(energyContainer.getEnergy()).plus(energy).peek());
         }
     }
 
@@ -102,12 +112,14 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        accumulator.reset();
         for (UniversalCable transmitter : transmitters) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            accumulator.plus(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!accumulator.valueEquals(floatingLongCapacity)) {
+            //Only create a new object if our capacity actually changed
+            //Note: We copy it as a mutable floating long, as we modify it in place when a single transmitter is added
+            floatingLongCapacity = accumulator.peek().copy();
             capacity = floatingLongCapacity.longValue();
         }
     }
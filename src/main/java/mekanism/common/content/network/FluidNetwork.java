@@ -17,6 +17,7 @@ import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.acceptor.AcceptorBackoff;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
@@ -36,6 +37,8 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    @Nullable
+    private FluidHandlerTarget emitTarget;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -151,17 +154,35 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
         Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
+        AcceptorBackoff<IFluidHandler> backoff = acceptorCache.getBackoff();
+        backoff.tick();
+        //Reuse the same target each tick rather than allocating a new one and its backing lists
+        if (emitTarget == null) {
+            emitTarget = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
+        } else {
+            emitTarget.setType(fluidToSend);
+        }
+        FluidHandlerTarget target = emitTarget;
         for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
             for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
+                if (backoff.shouldSkip(lazyAcceptor)) {
+                    continue;
+                }
                 lazyAcceptor.ifPresent(acceptor -> {
                     if (FluidUtils.canFill(acceptor, fluidToSend)) {
                         target.addHandler(acceptor);
+                        backoff.accepted(lazyAcceptor);
+                    } else {
+                        backoff.rejected(lazyAcceptor);
                     }
                 });
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        //Clear the target so that we don't hold onto references of the handlers or the stack until the next tick
+        target.clear();
+        target.setType(FluidStack.EMPTY);
+        return sent;
     }
 
     @Override
@@ -241,6 +262,8 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         FluidStack type = fluidTank.getFluid();
         if (!lastFluid.isFluidEqual(type)) {
             //If the fluid type does not match update it, and mark that we need an update
+            // and recheck any acceptors that rejected the previous type
+            acceptorCache.getBackoff().wake();
             if (!type.isEmpty()) {
                 lastFluid = new FluidStack(type, 1);
             }
@@ -21,6 +21,13 @@ public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         this.extra = type;
     }
 
+    /**
+     * Sets the type this target is transferring, used when reusing a cached target across ticks.
+     */
+    public void setType(@NotNull STACK type) {
+        this.extra = type;
+    }
+
     @Override
     protected void acceptAmount(HANDLER handler, SplitInfo<Long> splitInfo, Long amount) {
         splitInfo.send(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(extra, amount), Action.EXECUTE).getAmount());
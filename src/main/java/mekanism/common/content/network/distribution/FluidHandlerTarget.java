@@ -24,6 +24,13 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull
         this.extra = type;
     }
 
+    /**
+     * Sets the type this target is transferring, used when reusing a cached target across ticks.
+     */
+    public void setType(@NotNull FluidStack type) {
+        this.extra = type;
+    }
+
     @Override
     protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
         splitInfo.send(handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
@@ -6,6 +6,7 @@ import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
@@ -228,8 +229,19 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                                 tryRecalculate = !stack.canInsertToTransporter(nextTransmitter, stack.getSide(this), this);
                             }
                         }
-                        if (tryRecalculate && !recalculate(stackId, stack, null)) {
-                            deletes.add(stackId);
+                        if (tryRecalculate) {
+                            //Keep track of where the client thinks the stack is heading, as the client moves the stack along on its own,
+                            // so if rerouting doesn't change which way the stack is moving there is no need to sync it
+                            boolean alreadySyncing = needsSync.containsKey(stackId);
+                            Path prevPathType = stack.getPathType();
+                            BlockPos prevNext = stack.getNext(this);
+                            BlockPos prevPrev = stack.getPrev(this);
+                            if (!recalculate(stackId, stack, null)) {
+                                deletes.add(stackId);
+                            } else if (!alreadySyncing && prevPathType == stack.getPathType() && Objects.equals(prevNext, stack.getNext(this)) &&
+                                       Objects.equals(prevPrev, stack.getPrev(this))) {
+                                needsSync.remove(stackId);
+                            }
                         }
                     }
                 }
@@ -4,8 +4,10 @@ import it.unimi.dsi.fastutil.ints.Int2IntArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.IntFunction;
@@ -54,6 +56,7 @@ import org.jetbrains.annotations.Nullable;
 public class QIOCraftingWindow implements IContentsListener {
 
     private static final SelectedWindowData[] WINDOWS = new SelectedWindowData[IQIOCraftingWindowHolder.MAX_CRAFTING_WINDOWS];
+    private static final int MAX_CACHED_RECIPES = 16;
 
     static {
         for (byte tableIndex = 0; tableIndex < WINDOWS.length; tableIndex++) {
@@ -71,6 +74,11 @@ public class QIOCraftingWindow implements IContentsListener {
     private final byte windowIndex;
     @Nullable
     private CraftingRecipe lastRecipe;
+    /**
+     * Recipes, or {@code null} if there was no recipe, recently found for the contents of the grid. This means going back to a grid layout we have already seen
+     * doesn't require looking the recipe up again. Cleared when recipes are reloaded.
+     */
+    private final Object2ObjectLinkedOpenHashMap<GridKey, CraftingRecipe> recipeCache = new Object2ObjectLinkedOpenHashMap<>();
     private boolean isCrafting;
     private boolean changedWhileCrafting;
 
@@ -127,8 +135,9 @@ public class QIOCraftingWindow implements IContentsListener {
     }
 
     public void invalidateRecipe() {
-        //Clear the cached recipe and output slot
+        //Clear the cached recipes and output slot
         lastRecipe = null;
+        recipeCache.clear();
         if (!outputSlot.isEmpty()) {
             outputSlot.setEmpty();
         }
@@ -159,7 +168,7 @@ public class QIOCraftingWindow implements IContentsListener {
                 outputSlot.setStack(lastRecipe.assemble(craftingInventory));
             } else {
                 //If we don't have a cached recipe, or our cached recipe doesn't match our inventory contents, lookup the recipe
-                CraftingRecipe recipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInventory, world).orElse(null);
+                CraftingRecipe recipe = findRecipe(world);
                 if (recipe != lastRecipe) {
                     if (recipe == null) {
                         //If there is no found recipe, clear the output, but don't update our last recipe
@@ -177,6 +186,28 @@ public class QIOCraftingWindow implements IContentsListener {
         }
     }
 
+    @Nullable
+    private CraftingRecipe findRecipe(@NotNull Level world) {
+        HashedItem[] grid = new HashedItem[inputSlots.length];
+        for (int i = 0; i < inputSlots.length; i++) {
+            CraftingWindowInventorySlot inputSlot = inputSlots[i];
+            if (!inputSlot.isEmpty()) {
+                grid[i] = HashedItem.create(inputSlot.getStack());
+            }
+        }
+        GridKey key = new GridKey(grid);
+        if (recipeCache.containsKey(key)) {
+            //Move the recipe to the end so that it is the last to be evicted
+            return recipeCache.getAndMoveToLast(key);
+        }
+        CraftingRecipe recipe = MekanismRecipeType.getRecipeFor(RecipeType.CRAFTING, craftingInventory, world).orElse(null);
+        if (recipeCache.size() >= MAX_CACHED_RECIPES) {
+            recipeCache.removeFirst();
+        }
+        recipeCache.put(key, recipe);
+        return recipe;
+    }
+
     public boolean canViewRecipe(@NotNull ServerPlayer player) {
         if (lastRecipe == null) {
             //If there is no last recipe, they can't craft it
@@ -365,6 +396,7 @@ public class QIOCraftingWindow implements IContentsListener {
                 // the remaining items may have changed such as durability of a container item, and we want to make sure to use
                 // the proper remaining stacks
                 remaining = lastRecipe.getRemainingItems(craftingInventory);
+                remainderHelper.clearChecked();
             }
             //Simulate insertion into hotbar and then main inventory, allowing for inserting into empty slots,
             // as we just want to do a quick general check to see if there is room for the result, we will do
@@ -705,10 +737,17 @@ public class QIOCraftingWindow implements IContentsListener {
     private class RemainderHelper {
 
         private final CraftingContainer dummy = MekanismUtils.getDummyCraftingInv();
+        /**
+         * Indices we already know whether the remaining item is still valid for, and the result. Only valid while the contents of the dummy inventory and the
+         * remaining items being checked stay the same, which allows repeated crafts to skip matching the recipe again for every slot.
+         */
+        private final BitSet checked = new BitSet(inputSlots.length);
+        private final BitSet valid = new BitSet(inputSlots.length);
 
         private boolean updated;
 
         public void reset() {
+            clearChecked();
             if (updated) {
                 updated = false;
                 //Only clear the contents if we need to
@@ -716,6 +755,10 @@ public class QIOCraftingWindow implements IContentsListener {
             }
         }
 
+        public void clearChecked() {
+            checked.clear();
+        }
+
         private void updateInputs(@NotNull ItemStack remainder) {
             //If it has already been updated, no reason to update it again
             //If the remainder is empty we don't actually need to update what our inputs are
@@ -743,17 +786,28 @@ public class QIOCraftingWindow implements IContentsListener {
         }
 
         public boolean isStackStillValid(Level world, ItemStack stack, int index) {
+            if (checked.get(index)) {
+                return valid.get(index);
+            }
             updateInputs(stack);
             ItemStack old = dummy.getItem(index);
             dummy.setItem(index, StackUtils.size(stack, 1));
             if (lastRecipe != null && lastRecipe.matches(dummy, world)) {
                 //If the remaining item is still valid in the recipe in that position return that it is still valid.
                 // Note: The recipe should never actually be null here
+                if (!ItemStack.matches(old, dummy.getItem(index))) {
+                    //If the contents of the dummy inventory changed, the results we know for other indices may no longer be accurate
+                    checked.clear();
+                }
+                checked.set(index);
+                valid.set(index);
                 return true;
             }
             //Otherwise, revert the contents of the slot to what used to be in that slot
             // and return that the remaining item is not still valid in the slot
             dummy.setItem(index, old);
+            checked.set(index);
+            valid.clear(index);
             return false;
         }
     }
@@ -961,4 +1015,17 @@ public class QIOCraftingWindow implements IContentsListener {
             }
         }
     }
+
+    private record GridKey(HashedItem[] grid) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this || o instanceof GridKey other && Arrays.equals(grid, other.grid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(grid);
+        }
+    }
 }
\ No newline at end of file
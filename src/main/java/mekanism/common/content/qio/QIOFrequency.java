@@ -369,6 +369,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public void setColor(EnumColor color) {
         this.color = color;
+        markNeedsSave();
     }
 
     // utility methods for accessing descriptors
@@ -50,6 +50,7 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
     @Override
     public void setColor(EnumColor color) {
         this.color = color;
+        markNeedsSave();
     }
 
     @Override
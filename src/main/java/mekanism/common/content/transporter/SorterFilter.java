@@ -4,13 +4,10 @@ import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.filter.BaseFilter;
 import mekanism.common.lib.inventory.Finder;
-import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
-import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.world.level.block.entity.BlockEntity;
 
 public abstract class SorterFilter<FILTER extends SorterFilter<FILTER>> extends BaseFilter<FILTER> {
 
@@ -35,13 +32,6 @@ public abstract class SorterFilter<FILTER extends SorterFilter<FILTER>> extends
 
     public abstract Finder getFinder();
 
-    public TransitRequest mapInventory(BlockEntity tile, Direction side, boolean singleItem) {
-        if (sizeMode && !singleItem) {
-            return TransitRequest.definedItem(tile, side, min, max, getFinder());
-        }
-        return TransitRequest.definedItem(tile, side, singleItem ? 1 : 64, getFinder());
-    }
-
     @Override
     public CompoundTag write(CompoundTag nbtTags) {
         super.write(nbtTags);
@@ -10,12 +10,14 @@ import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
@@ -23,18 +25,52 @@ public class TransporterManager {
     }
 
     private static final Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Ledger of what each destination is expected to look like after all the stacks that are in flight to it have been inserted. Entries are only valid for the tick
+     * they were calculated in, and are invalidated whenever a stack heading to the destination is added or removed, so that routing multiple stacks to the same
+     * destination in a tick doesn't have to re-simulate every in-flight stack each time.
+     */
+    private static final Map<PredictionKey, InFlightPrediction> inFlightPredictions = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        inFlightPredictions.clear();
+    }
+
+    /**
+     * Clears the in-flight predictions as the contents of the destinations may have changed since they were calculated.
+     */
+    public static void tick() {
+        if (!inFlightPredictions.isEmpty()) {
+            inFlightPredictions.clear();
+        }
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(new Coord4D(stack.getDest(), world), k -> new ObjectOpenHashSet<>()).add(stack);
+        Coord4D dest = new Coord4D(stack.getDest(), world);
+        flowingStacks.computeIfAbsent(dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        invalidatePredictions(dest);
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(new Coord4D(stack.getDest(), world)).remove(stack);
+            Coord4D dest = new Coord4D(stack.getDest(), world);
+            Set<TransporterStack> transporterStacks = flowingStacks.get(dest);
+            if (transporterStacks != null && transporterStacks.remove(stack)) {
+                if (transporterStacks.isEmpty()) {
+                    //Free up the memory of destinations that no longer have anything heading to them
+                    flowingStacks.remove(dest);
+                }
+                invalidatePredictions(dest);
+            }
+        }
+    }
+
+    private static void invalidatePredictions(Coord4D position) {
+        if (!inFlightPredictions.isEmpty()) {
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                inFlightPredictions.remove(new PredictionKey(position, side));
+            }
         }
     }
 
@@ -183,45 +219,71 @@ public class TransporterManager {
      * @return {@link TransitResponse} of expected items to use
      */
     public static TransitResponse getPredictedInsert(Coord4D position, Direction side, IItemHandler handler, TransitRequest request) {
+        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
+        if (transporterStacks == null) {
+            //Nothing is in flight to the destination, so there is nothing to account for
+            return getPredictedInsert(new InventoryInfo(handler), handler, request);
+        }
+        PredictionKey key = new PredictionKey(position, side);
+        InFlightPrediction prediction = inFlightPredictions.get(key);
+        if (prediction == null || prediction.handler != handler) {
+            prediction = new InFlightPrediction(handler, simulateInFlight(transporterStacks, side, handler));
+            inFlightPredictions.put(key, prediction);
+        }
+        if (prediction.inventoryInfo == null) {
+            //An in-flight stack can't be inserted; there's no room for anyone else
+            return request.getEmptyResponse();
+        }
+        //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
+        // items to ensure we have an accurate model of what will happen in the future.
+        //Note: We copy the info so that our simulation does not modify the stored prediction
+        return getPredictedInsert(prediction.inventoryInfo.copy(), handler, request);
+    }
+
+    /**
+     * Simulates inserting all the stacks that are in flight to a destination.
+     *
+     * @param transporterStacks Stacks that are in flight to the destination
+     * @param side              Side of the target we are connecting to
+     * @param handler           The item handler the target has
+     *
+     * @return Contents of the destination after all the in-flight stacks are inserted, or {@code null} if an in-flight stack can't be inserted.
+     */
+    @Nullable
+    private static InventoryInfo simulateInFlight(Set<TransporterStack> transporterStacks, Direction side, IItemHandler handler) {
         InventoryInfo inventoryInfo = new InventoryInfo(handler);
         //Before we see if this item can fit in the destination, we must first check the stacks that are
         // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
         // track of the initial size of the inventory and then simulate each in-flight addition. If any
         // in-flight stack can't be inserted, then we can fail fast.
         //Note: that stackSizes for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
-        if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyway so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack could be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
+        for (TransporterStack stack : transporterStacks) {
+            if (stack != null && stack.getPathType() != Path.NONE) {
+                //We start by simulating inserting the stack into the handler, regardless of if we
+                // are interacting with the same side of the target as the stack's path is taking.
+                // This is so that in cases where the item handler is shared (chests) or some of
+                // the slots of the item handler may be shared (our machines with multiple sides
+                // set to the same side config are "different" because of the side proxies) then
+                // we want to make sure we try to insert the in-flight stacks anyway so that if
+                // the slot is the same we fill it.
+                int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+                if (numLeftOver > 0) {
+                    if (numLeftOver == stack.itemStack.getCount()) {
+                        //If none of the stack could be inserted, check if we are attempting to insert it
+                        // into the same side as the side we are predicting that we can insert into.
+                        if (side != stack.getSideOfDest()) {
+                            //If we are not, then assume that the destination does not contain the slot that the in-flight
+                            // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                            // the destination, and instead continue checking and then simulate/check our TransitRequest
+                            continue;
                         }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return request.getEmptyResponse();
                     }
+                    // Failed to successfully insert this in-flight item; there's no room for anyone else
+                    return null;
                 }
             }
         }
-
-        //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
-        // items to ensure we have an accurate model of what will happen in the future.
-        return getPredictedInsert(inventoryInfo, handler, request);
+        return inventoryInfo;
     }
 
     /**
@@ -278,6 +340,15 @@ public class TransporterManager {
         private final int[] slotLimits;
         private final int slots;
 
+        private InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = Arrays.copyOf(other.inventory, slots);
+            stackSizes = Arrays.copyOf(other.stackSizes, slots);
+            //Note: The actual sizes are never modified and the slot limits don't change based on the contents, so we can share them
+            actualStackSizes = other.actualStackSizes;
+            slotLimits = other.slotLimits;
+        }
+
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
             inventory = new ItemStack[slots];
@@ -300,5 +371,15 @@ public class TransporterManager {
             }
             return limit;
         }
+
+        public InventoryInfo copy() {
+            return new InventoryInfo(this);
+        }
+    }
+
+    private record PredictionKey(Coord4D position, Direction side) {
+    }
+
+    private record InFlightPrediction(IItemHandler handler, @Nullable InventoryInfo inventoryInfo) {
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package mekanism.common.content.transporter;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
@@ -19,6 +17,7 @@ import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.SidedBlockPos;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -31,7 +30,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -45,7 +43,7 @@ public final class TransporterPathfinder {
         if (network == null) {
             return Collections.emptyList();
         }
-        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        ChunkAccessCache chunkMap = new ChunkAccessCache();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
@@ -74,7 +72,7 @@ public final class TransporterPathfinder {
 
     @Nullable
     private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
+          ChunkAccessCache chunkMap) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             BlockPos dest = data.getLocation();
@@ -165,7 +163,7 @@ public final class TransporterPathfinder {
             return null;
         }
         if (stack.homeLocation != null) {
-            Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+            ChunkAccessCache chunkMap = new ChunkAccessCache();
             Pathfinder p = new Pathfinder(new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction side, BlockEntity tile) {
@@ -371,7 +369,7 @@ public final class TransporterPathfinder {
             transportStack = stack;
         }
 
-        public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
+        public boolean find(ChunkAccessCache chunkMap) {
             openSet.add(start);
             gScore.put(start, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
@@ -452,7 +450,7 @@ public final class TransporterPathfinder {
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
         private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+              ChunkAccessCache chunkMap) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -238,7 +238,10 @@ public class BoundComputerMethod {
         }
     }
 
-    public record ThreadAwareMethodHandle(MethodHandle methodHandle, List<String> paramNames, boolean threadSafe) {
+    /**
+     * @param snapshot Snapshot of the result of this method if computers are allowed to read the result from the previous tick instead of queuing onto the main thread.
+     */
+    public record ThreadAwareMethodHandle(MethodHandle methodHandle, List<String> paramNames, boolean threadSafe, @Nullable ComputerSnapshot snapshot) {
 
         public Class<?> returnType() {
             return methodHandle.type().returnType();
@@ -0,0 +1,115 @@
+package mekanism.common.integration.computer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.integration.computer.BoundComputerMethod.ThreadAwareMethodHandle;
+
+/**
+ * Provides {@code getAll} and {@code getMany} methods to computers that allow reading the results of multiple getters of a handler in a single call, and thus a single
+ * main thread task, rather than having to call each getter separately.
+ */
+public class BulkComputerMethods {
+
+    private static final String GET_ALL = "getAll";
+    private static final String GET_MANY = "getMany";
+    private static final MethodHandle GET_ALL_HANDLE;
+    private static final MethodHandle GET_MANY_HANDLE;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            GET_ALL_HANDLE = lookup.findVirtual(BulkComputerMethods.class, "getAll", MethodType.methodType(Map.class));
+            GET_MANY_HANDLE = lookup.findVirtual(BulkComputerMethods.class, "getMany", MethodType.methodType(Map.class, String[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Adds bulk getter methods for all the getters in the given bound methods, if there are any and the handler does not already have methods with the same names.
+     *
+     * @param boundMethods Map of method name to actual method to add our bulk methods to.
+     */
+    public static void addBulkMethods(Map<String, BoundComputerMethod> boundMethods) {
+        //Linked map to ensure the order the getters are returned in matches the order of the methods
+        Map<String, MethodHandle> getters = new LinkedHashMap<>();
+        for (Map.Entry<String, BoundComputerMethod> entry : boundMethods.entrySet()) {
+            for (ThreadAwareMethodHandle implementation : entry.getValue().getImplementations()) {
+                //Only include methods that take no arguments and have a result
+                Class<?> returnType = implementation.returnType();
+                if (implementation.parameterTypes().isEmpty() && returnType != Void.TYPE && returnType != Void.class) {
+                    getters.put(entry.getKey(), implementation.methodHandle());
+                    break;
+                }
+            }
+        }
+        if (!getters.isEmpty() && !boundMethods.containsKey(GET_ALL) && !boundMethods.containsKey(GET_MANY)) {
+            BulkComputerMethods bulkMethods = new BulkComputerMethods(getters);
+            boundMethods.put(GET_ALL, createMethod(GET_ALL, GET_ALL_HANDLE.bindTo(bulkMethods), Collections.emptyList()));
+            boundMethods.put(GET_MANY, createMethod(GET_MANY, GET_MANY_HANDLE.bindTo(bulkMethods), Collections.singletonList("methods")));
+        }
+    }
+
+    private static BoundComputerMethod createMethod(String name, MethodHandle methodHandle, List<String> paramNames) {
+        List<ThreadAwareMethodHandle> implementations = new ArrayList<>(1);
+        implementations.add(new ThreadAwareMethodHandle(methodHandle, paramNames, false, null));
+        return new BoundComputerMethod(name, implementations);
+    }
+
+    private final Map<String, MethodHandle> getters;
+
+    private BulkComputerMethods(Map<String, MethodHandle> getters) {
+        this.getters = getters;
+    }
+
+    /**
+     * @return Map of getter name to the result of all getters of the handler, skipping any that are not currently able to be called.
+     */
+    private Map<String, Object> getAll() {
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<String, MethodHandle> entry : getters.entrySet()) {
+            try {
+                results.put(entry.getKey(), wrapResult(entry.getValue().invoke()));
+            } catch (Throwable ignored) {
+                //Skip any getters that are not valid in the handler's current state, for example multiblock getters when the multiblock is not formed
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param methods Names of the getters to get the results of.
+     *
+     * @return Map of getter name to result of the getter for all the requested getters.
+     */
+    private Map<String, Object> getMany(String[] methods) throws ComputerException {
+        Map<String, Object> results = new LinkedHashMap<>(methods.length);
+        for (String method : methods) {
+            MethodHandle getter = getters.get(method);
+            if (getter == null) {
+                throw new ComputerException("Unknown getter '%s'.", method);
+            }
+            try {
+                results.put(method, wrapResult(getter.invoke()));
+            } catch (ComputerException e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new ComputerException("Failed to get '%s': %s", method, throwable.getMessage());
+            }
+        }
+        return results;
+    }
+
+    private static Object wrapResult(Object result) {
+        //Convert floating longs to doubles, as that is how computers would end up reading them anyway, and that way we don't end up
+        // returning a reference to a mutable floating long that may be modified after our main thread task finishes
+        return result instanceof FloatingLong floatingLong ? floatingLong.doubleValue() : result;
+    }
+}
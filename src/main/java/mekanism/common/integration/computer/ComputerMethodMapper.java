@@ -20,7 +20,6 @@ import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
@@ -52,7 +51,11 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
     public static final ComputerMethodMapper INSTANCE = new ComputerMethodMapper();
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final MethodHandles.Lookup PUBLIC_LOOKUP = MethodHandles.publicLookup();
-    private final Map<Class<?>, Map<String, List<MethodHandleInfo>>> namedMethodHandleCache = new Object2ObjectOpenHashMap<>();
+    private final Map<Class<?>, ClassMethodCache> namedMethodHandleCache = new Object2ObjectOpenHashMap<>();
+    private final Map<Class<?>, List<AnnotationData>> rawMethodData = new Object2ObjectOpenHashMap<>();
+    private final Map<Class<?>, List<WrappingMethodHelper>> cachedWrappers = new Object2ObjectOpenHashMap<>();
+    private final Map<String, Class<?>> classNameCache = new Object2ObjectOpenHashMap<>();
+    private JsonObject allParamNames = new JsonObject();
 
     private ComputerMethodMapper() {
     }
@@ -107,110 +110,130 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
 
     @Override
     protected void collectScanData(Map<String, Class<?>> classNameCache, Map<Class<?>, List<AnnotationData>> knownClasses, Set<IModFileInfo> modFileData) {
-        JsonObject allParamNames = collectParamNames(modFileData);
-        Type wrappingType = Type.getType(WrappingComputerMethod.class);
-        Map<Class<?>, List<WrappingMethodHelper>> cachedWrappers = new Object2ObjectOpenHashMap<>();
-        Map<Class<?>, List<MethodDetails>> rawMethodDetails = new Object2ObjectOpenHashMap<>();
-        for (Entry<Class<?>, List<AnnotationData>> entry : knownClasses.entrySet()) {
-            Class<?> annotatedClass = entry.getKey();
-            JsonObject classParamNames = allParamNames.getAsJsonObject(annotatedClass.getName());
+        //Note: We only keep track of the annotation data here, and lazily create the method handles the first time a class is bound to a computer,
+        // as creating them involves reflection which is wasteful to do for every class at startup when most of them may never get bound
+        allParamNames = collectParamNames(modFileData);
+        this.classNameCache.putAll(classNameCache);
+        rawMethodData.putAll(knownClasses);
+    }
+
+    /**
+     * Gets or lazily creates the cache of computer methods for the given class, including any methods from its parent classes.
+     */
+    private synchronized ClassMethodCache getOrCreateCache(Class<?> clazz) {
+        ClassMethodCache cache = namedMethodHandleCache.get(clazz);
+        if (cache == null) {
             List<MethodDetails> methodDetails = new ArrayList<>();
-            rawMethodDetails.put(annotatedClass, methodDetails);
-            for (AnnotationData data : entry.getValue()) {
-                if (getAnnotationValue(data, "requiredMods", Collections.<String>emptyList()).stream().anyMatch(s -> !ModList.get().isLoaded(s))) {
-                    //If the required mods are not loaded, skip this annotation as the restrictions are not met
+            List<AnnotationData> annotations = rawMethodData.get(clazz);
+            if (annotations != null) {
+                createMethodDetails(clazz, annotations, methodDetails);
+            }
+            Class<?> superClass = clazz.getSuperclass();
+            if (superClass != null) {
+                //Add any methods our parent classes have
+                methodDetails.addAll(getOrCreateCache(superClass).methodDetails);
+            }
+            if (methodDetails.isEmpty()) {
+                cache = ClassMethodCache.EMPTY;
+            } else {
+                methodDetails.sort(Comparator.comparing(info -> info.methodName));
+                cache = new ClassMethodCache(methodDetails);
+            }
+            namedMethodHandleCache.put(clazz, cache);
+        }
+        return cache;
+    }
+
+    private void createMethodDetails(Class<?> annotatedClass, List<AnnotationData> annotations, List<MethodDetails> methodDetails) {
+        JsonObject classParamNames = allParamNames.getAsJsonObject(annotatedClass.getName());
+        Type wrappingType = Type.getType(WrappingComputerMethod.class);
+        for (AnnotationData data : annotations) {
+            if (getAnnotationValue(data, "requiredMods", Collections.<String>emptyList()).stream().anyMatch(s -> !ModList.get().isLoaded(s))) {
+                //If the required mods are not loaded, skip this annotation as the restrictions are not met
+                continue;
+            }
+            if (data.targetType() == ElementType.FIELD) {
+                //Synthetic Computer Method(s) need to be generated for the field
+                String fieldName = data.memberName();
+                Field field = getField(annotatedClass, fieldName);
+                if (field == null) {
                     continue;
                 }
-                if (data.targetType() == ElementType.FIELD) {
-                    //Synthetic Computer Method(s) need to be generated for the field
-                    String fieldName = data.memberName();
-                    Field field = getField(annotatedClass, fieldName);
-                    if (field == null) {
-                        continue;
+                if (data.annotationType().equals(wrappingType)) {
+                    //Wrapping computer method
+                    try {
+                        MethodHandle methodHandle = LOOKUP.unreflectGetter(field);
+                        wrapMethodHandle(classNameCache, methodHandle, data, methodDetails, annotatedClass, classParamNames,
+                              methodHandle.type().descriptorString(), fieldName);
+                    } catch (IllegalAccessException e) {
+                        Mekanism.logger.error("Failed to create getter for field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
                     }
-                    if (data.annotationType().equals(wrappingType)) {
-                        //Wrapping computer method
+                } else {
+                    String getterName = getAnnotationValue(data, "getter", "");
+                    String setterName = getAnnotationValue(data, "setter", "");
+                    if (getterName.isEmpty() && setterName.isEmpty()) {
+                        Mekanism.logger.error("Field: '{}' in class '{}' is annotated to generate a computer method but does not specify a getter or setter.",
+                              fieldName, annotatedClass.getSimpleName());
+                    } else {
+                        MethodRestriction restriction = getAnnotationValue(data, "restriction", MethodRestriction.NONE);
+                        createSyntheticMethod(methodDetails, annotatedClass, field, fieldName, getterName, true, restriction,
+                              getAnnotationValue(data, "threadSafeGetter", false));
+                        createSyntheticMethod(methodDetails, annotatedClass, field, fieldName, setterName, false, restriction,
+                              getAnnotationValue(data, "threadSafeSetter", false));
+                    }
+                }
+            } else {//data.getTargetType() == ElementType.METHOD
+                //Note: Signature is methodName followed by the method descriptor
+                // For example this method is: collectScanDataUnsafe(Ljava/util/Map;Ljava/util/Map;)V
+                String methodSignature = data.memberName();
+                int descriptorStart = methodSignature.indexOf('(');
+                if (descriptorStart == -1) {
+                    Mekanism.logger.error("Method '{}' in class '{}' does not have a method descriptor.", methodSignature, annotatedClass.getSimpleName());
+                } else {
+                    String methodDescriptor = methodSignature.substring(descriptorStart);
+                    String methodName = methodSignature.substring(0, descriptorStart);
+                    Method method = getMethod(annotatedClass, methodName, methodDescriptor);
+                    if (method != null) {
+                        //Note: We need to grab the method handle via the method so that we can access private and protected methods properly
+                        MethodHandle methodHandle;
                         try {
-                            MethodHandle methodHandle = LOOKUP.unreflectGetter(field);
-                            wrapMethodHandle(classNameCache, methodHandle, data, methodDetails, cachedWrappers, annotatedClass, classParamNames,
-                                  methodHandle.type().descriptorString(), fieldName);
+                            methodHandle = LOOKUP.unreflect(method);
                         } catch (IllegalAccessException e) {
-                            Mekanism.logger.error("Failed to create getter for field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
-                        }
-                    } else {
-                        String getterName = getAnnotationValue(data, "getter", "");
-                        String setterName = getAnnotationValue(data, "setter", "");
-                        if (getterName.isEmpty() && setterName.isEmpty()) {
-                            Mekanism.logger.error("Field: '{}' in class '{}' is annotated to generate a computer method but does not specify a getter or setter.",
-                                  fieldName, annotatedClass.getSimpleName());
-                        } else {
-                            MethodRestriction restriction = getAnnotationValue(data, "restriction", MethodRestriction.NONE);
-                            createSyntheticMethod(methodDetails, annotatedClass, field, fieldName, getterName, true, restriction,
-                                  getAnnotationValue(data, "threadSafeGetter", false));
-                            createSyntheticMethod(methodDetails, annotatedClass, field, fieldName, setterName, false, restriction,
-                                  getAnnotationValue(data, "threadSafeSetter", false));
+                            Mekanism.logger.error("Failed to retrieve method handle for method '{}' in class '{}'.", methodName,
+                                  annotatedClass.getSimpleName());
+                            continue;
                         }
-                    }
-                } else {//data.getTargetType() == ElementType.METHOD
-                    //Note: Signature is methodName followed by the method descriptor
-                    // For example this method is: collectScanDataUnsafe(Ljava/util/Map;Ljava/util/Map;)V
-                    String methodSignature = data.memberName();
-                    int descriptorStart = methodSignature.indexOf('(');
-                    if (descriptorStart == -1) {
-                        Mekanism.logger.error("Method '{}' in class '{}' does not have a method descriptor.", methodSignature, annotatedClass.getSimpleName());
-                    } else {
-                        String methodDescriptor = methodSignature.substring(descriptorStart);
-                        String methodName = methodSignature.substring(0, descriptorStart);
-                        Method method = getMethod(annotatedClass, methodName, methodDescriptor);
-                        if (method != null) {
-                            //Note: We need to grab the method handle via the method so that we can access private and protected methods properly
-                            MethodHandle methodHandle;
-                            try {
-                                methodHandle = LOOKUP.unreflect(method);
-                            } catch (IllegalAccessException e) {
-                                Mekanism.logger.error("Failed to retrieve method handle for method '{}' in class '{}'.", methodName,
-                                      annotatedClass.getSimpleName());
-                                continue;
-                            }
-                            if (data.annotationType().equals(wrappingType)) {
-                                //Wrapping computer method
-                                wrapMethodHandle(classNameCache, methodHandle, data, methodDetails, cachedWrappers, annotatedClass, classParamNames, methodDescriptor, methodName);
-                            } else {//ComputerMethod
-                                //See if there is a name override defined for the method, or fallback
-                                String methodNameOverride = getAnnotationValue(data, "nameOverride", methodName, name -> {
-                                    if (name.isEmpty()) {
-                                        Mekanism.logger.warn("Specified name override for method '{}' in class '{}' is explicitly set to empty and "
-                                                             + "will not be used.", methodName, annotatedClass.getSimpleName());
-                                    } else if (validMethodName(name)) {
-                                        return true;
-                                    } else {
-                                        Mekanism.logger.error("Specified name override '{}' for method '{}' in class '{}' is not a valid method name and "
-                                                              + "will not be used.", name, methodName, annotatedClass.getSimpleName());
-                                    }
-                                    return false;
-                                });
-                                methodDetails.add(new MethodDetails(methodNameOverride, methodHandle, MekanismUtils.getParameterNames(classParamNames, methodName, methodDescriptor),
-                                      getAnnotationValue(data, "restriction", MethodRestriction.NONE), getAnnotationValue(data, "threadSafe", false)));
+                        if (data.annotationType().equals(wrappingType)) {
+                            //Wrapping computer method
+                            wrapMethodHandle(classNameCache, methodHandle, data, methodDetails, annotatedClass, classParamNames, methodDescriptor, methodName);
+                        } else {//ComputerMethod
+                            //See if there is a name override defined for the method, or fallback
+                            String methodNameOverride = getAnnotationValue(data, "nameOverride", methodName, name -> {
+                                if (name.isEmpty()) {
+                                    Mekanism.logger.warn("Specified name override for method '{}' in class '{}' is explicitly set to empty and "
+                                                         + "will not be used.", methodName, annotatedClass.getSimpleName());
+                                } else if (validMethodName(name)) {
+                                    return true;
+                                } else {
+                                    Mekanism.logger.error("Specified name override '{}' for method '{}' in class '{}' is not a valid method name and "
+                                                          + "will not be used.", name, methodName, annotatedClass.getSimpleName());
+                                }
+                                return false;
+                            });
+                            boolean threadSafe = getAnnotationValue(data, "threadSafe", false);
+                            boolean snapshot = getAnnotationValue(data, "snapshot", false);
+                            if (snapshot && (threadSafe || !methodDescriptor.startsWith("()") || methodDescriptor.endsWith(")V"))) {
+                                Mekanism.logger.warn("Method '{}' in class '{}' is marked as allowing snapshots, but is either thread-safe, has parameters, or "
+                                                     + "does not return anything. Snapshots will not be used.", methodName, annotatedClass.getSimpleName());
+                                snapshot = false;
                             }
+                            methodDetails.add(new MethodDetails(methodNameOverride, methodHandle, MekanismUtils.getParameterNames(classParamNames, methodName, methodDescriptor),
+                                  getAnnotationValue(data, "restriction", MethodRestriction.NONE), threadSafe, snapshot));
                         }
                     }
                 }
             }
         }
-        List<ClassBasedInfo<MethodDetails>> methodDetails = combineWithParents(rawMethodDetails);
-        for (ClassBasedInfo<MethodDetails> details : methodDetails) {
-            //Linked map to preserve order
-            Map<String, List<MethodHandleInfo>> cache = new LinkedHashMap<>();
-            details.infoList().sort(Comparator.comparing(info -> info.methodName));
-            for (MethodDetails handle : details.infoList()) {
-                //Add the method handle to the list of methods with that method name for our computer handler
-                // Note: we construct the list with an initial capacity of one, as that is likely how many we
-                // actually have per methodName, we just support using a list
-                cache.computeIfAbsent(handle.methodName, methodName -> new ArrayList<>(1))
-                      .add(new MethodHandleInfo(handle.method, handle.paramNames, handle.restriction, handle.threadSafe));
-            }
-            namedMethodHandleCache.put(details.clazz(), cache);
-        }
     }
 
     private static void createSyntheticMethod(List<MethodDetails> methodDetails, Class<?> annotatedClass, Field field, String fieldName, String methodName,
@@ -227,7 +250,7 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
                         methodHandle = LOOKUP.unreflectSetter(field);
                         paramNames = Collections.singletonList(fieldName);
                     }
-                    methodDetails.add(new MethodDetails(methodName, methodHandle, paramNames, restriction, threadSafe));
+                    methodDetails.add(new MethodDetails(methodName, methodHandle, paramNames, restriction, threadSafe, false));
                 } catch (IllegalAccessException e) {
                     Mekanism.logger.error("Failed to create {} for field '{}' in class '{}'.", isGetter ? "getter" : "setter", fieldName,
                           annotatedClass.getSimpleName());
@@ -239,9 +262,8 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
         }
     }
 
-    private static void wrapMethodHandle(Map<String, Class<?>> classNameCache, MethodHandle methodHandle, AnnotationData data, List<MethodDetails> methodDetails,
-          Map<Class<?>, List<WrappingMethodHelper>> cachedWrappers, Class<?> annotatedClass, @Nullable JsonObject classParamNames, String methodSignature,
-          String identifier) {
+    private void wrapMethodHandle(Map<String, Class<?>> classNameCache, MethodHandle methodHandle, AnnotationData data, List<MethodDetails> methodDetails,
+          Class<?> annotatedClass, @Nullable JsonObject classParamNames, String methodSignature, String identifier) {
         Class<?> wrapperClass = getAnnotationValue(classNameCache, data, "wrapper");
         if (wrapperClass != null) {
             List<String> methodNames = getAnnotationValue(data, "methodNames", Collections.emptyList());
@@ -294,7 +316,7 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
                     for (int index = 0; index < methodNameCount; index++) {
                         //If there is an error at dev time it should crash with an IllegalArgumentException
                         MethodHandle newHandle = MethodHandles.filterReturnValue(methodHandle, wrapperHandles.get(index).asType(methodHandle.type().returnType()));
-                        methodDetails.add(new MethodDetails(methodNames.get(index), newHandle, paramNames, restriction, threadSafe));
+                        methodDetails.add(new MethodDetails(methodNames.get(index), newHandle, paramNames, restriction, threadSafe, false));
                     }
                 }
             }
@@ -315,8 +337,7 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
      * @param boundMethods Map of method name to actual method to add our methods to.
      */
     public void getAndBindToHandler(Class<?> handlerClass, @Nullable Object handler, Map<String, BoundComputerMethod> boundMethods) {
-        Map<String, List<MethodHandleInfo>> namedMethods = namedMethodHandleCache.computeIfAbsent(handlerClass,
-              clazz -> getData(namedMethodHandleCache, clazz, Collections.emptyMap()));
+        Map<String, List<MethodHandleInfo>> namedMethods = getOrCreateCache(handlerClass).namedMethods;
         boolean hasMethods = !boundMethods.isEmpty();
         for (Map.Entry<String, List<MethodHandleInfo>> entry : namedMethods.entrySet()) {
             String methodName = entry.getKey();
@@ -376,13 +397,39 @@ public class ComputerMethodMapper extends BaseAnnotationScanner {
         }
     }
 
-    private record MethodDetails(String methodName, MethodHandle method, List<String> paramNames, MethodRestriction restriction, boolean threadSafe) {
+    private static class ClassMethodCache {
+
+        private static final ClassMethodCache EMPTY = new ClassMethodCache(Collections.emptyList());
+
+        //Linked map to preserve order
+        private final Map<String, List<MethodHandleInfo>> namedMethods = new LinkedHashMap<>();
+        /**
+         * All methods of this class and its parents, sorted. Kept so that child classes can include them when their cache is created.
+         */
+        private final List<MethodDetails> methodDetails;
+
+        private ClassMethodCache(List<MethodDetails> methodDetails) {
+            this.methodDetails = methodDetails;
+            for (MethodDetails handle : methodDetails) {
+                //Add the method handle to the list of methods with that method name for our computer handler
+                // Note: we construct the list with an initial capacity of one, as that is likely how many we
+                // actually have per methodName, we just support using a list
+                namedMethods.computeIfAbsent(handle.methodName, methodName -> new ArrayList<>(1))
+                      .add(new MethodHandleInfo(handle.method, handle.paramNames, handle.restriction, handle.threadSafe, handle.snapshot));
+            }
+        }
+    }
+
+    private record MethodDetails(String methodName, MethodHandle method, List<String> paramNames, MethodRestriction restriction, boolean threadSafe,
+                                 boolean snapshot) {
     }
 
-    private record MethodHandleInfo(MethodHandle methodHandle, List<String> paramNames, MethodRestriction restriction, boolean threadSafe) {
+    private record MethodHandleInfo(MethodHandle methodHandle, List<String> paramNames, MethodRestriction restriction, boolean threadSafe, boolean snapshot) {
 
         public ThreadAwareMethodHandle bindTo(@Nullable Object handler) {
-            return new ThreadAwareMethodHandle(handler == null ? methodHandle : methodHandle.bindTo(handler), paramNames, threadSafe);
+            MethodHandle boundHandle = handler == null ? methodHandle : methodHandle.bindTo(handler);
+            //Note: Each bound handle gets its own snapshot, as the snapshot is of the result for that specific handler
+            return new ThreadAwareMethodHandle(boundHandle, paramNames, threadSafe, snapshot ? new ComputerSnapshot(boundHandle) : null);
         }
     }
 
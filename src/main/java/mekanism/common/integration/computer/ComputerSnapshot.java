@@ -0,0 +1,112 @@
+package mekanism.common.integration.computer;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import net.minecraft.SharedConstants;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the most recent result of a bound computer method that allows snapshots (see {@link mekanism.common.integration.computer.annotation.ComputerMethod#snapshot()}).
+ * Once a computer reads the method, the result gets republished from the main thread once per tick for as long as computers keep reading it, allowing computer threads
+ * to read the value without having to queue a task onto the main thread for every call.
+ */
+public class ComputerSnapshot {
+
+    /**
+     * How many ticks a snapshot will continue being republished after the last time a computer read it.
+     */
+    private static final long KEEP_ALIVE_TICKS = 5L * SharedConstants.TICKS_PER_SECOND;
+    private static final Set<ComputerSnapshot> ACTIVE_SNAPSHOTS = ConcurrentHashMap.newKeySet();
+    private static volatile long currentTick;
+
+    private final MethodHandle methodHandle;
+    @Nullable
+    private volatile Function<Object, Object> resultWrapper;
+    @Nullable
+    private volatile PublishedResult published;
+    private volatile long lastRead;
+
+    ComputerSnapshot(MethodHandle methodHandle) {
+        this.methodHandle = methodHandle;
+    }
+
+    /**
+     * Reads the last published result, and marks this snapshot as still being in use.
+     *
+     * @return Wrapped result of the method as of at most one tick ago, or {@code null} if there is no recent result and the method needs to be run on the main thread.
+     *
+     * @implNote Safe to call from computer threads.
+     */
+    @Nullable
+    public Object read() {
+        long tick = currentTick;
+        lastRead = tick;
+        PublishedResult result = published;
+        return result != null && tick - result.tick <= 1 ? result.result : null;
+    }
+
+    /**
+     * Stores the result of running the method on the main thread and starts republishing it every tick.
+     *
+     * @param wrappedResult Result of the method after being wrapped by the computer integration.
+     * @param resultWrapper Function used to wrap raw results for the computer integration when republishing. Must produce values that are safe to read from other
+     *                      threads.
+     *
+     * @implNote Must only be called from the main thread.
+     */
+    public void publish(Object wrappedResult, Function<Object, Object> resultWrapper) {
+        this.resultWrapper = resultWrapper;
+        long tick = currentTick;
+        lastRead = tick;
+        published = new PublishedResult(wrappedResult, tick);
+        ACTIVE_SNAPSHOTS.add(this);
+    }
+
+    /**
+     * @return {@code true} if this snapshot is still being read and should be kept.
+     */
+    private boolean refresh(long tick) {
+        Function<Object, Object> wrapper = resultWrapper;
+        if (wrapper == null || tick - lastRead > KEEP_ALIVE_TICKS) {
+            //Nothing has read this in a while, stop republishing it
+            published = null;
+            return false;
+        }
+        try {
+            published = new PublishedResult(wrapper.apply(methodHandle.invoke()), tick);
+        } catch (Throwable throwable) {
+            //If the method failed, stop republishing it so that the next call goes through the main thread and can report the error properly
+            published = null;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Republishes all snapshots that are being read by computers. Called at the end of each server tick.
+     */
+    public static void tick() {
+        long tick = currentTick + 1;
+        if (!ACTIVE_SNAPSHOTS.isEmpty()) {
+            for (Iterator<ComputerSnapshot> iterator = ACTIVE_SNAPSHOTS.iterator(); iterator.hasNext(); ) {
+                if (!iterator.next().refresh(tick)) {
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = tick;
+    }
+
+    public static void reset() {
+        for (ComputerSnapshot snapshot : ACTIVE_SNAPSHOTS) {
+            snapshot.published = null;
+        }
+        ACTIVE_SNAPSHOTS.clear();
+    }
+
+    private record PublishedResult(Object result, long tick) {
+    }
+}
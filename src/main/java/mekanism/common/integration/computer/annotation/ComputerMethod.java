@@ -29,4 +29,10 @@ public @interface ComputerMethod {
      * Whether this method is thread-safe or needs to be queued to run on the main thread.
      */
     boolean threadSafe() default false;
+
+    /**
+     * Whether computers may be given the result of this method as of the end of the previous tick instead of queuing the call to run on the main thread. Only valid for
+     * read-only methods that do not take any parameters, and is ignored if the method is {@link #threadSafe()}.
+     */
+    boolean snapshot() default false;
 }
\ No newline at end of file
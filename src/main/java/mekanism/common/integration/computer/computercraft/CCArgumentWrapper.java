@@ -187,6 +187,11 @@ public class CCArgumentWrapper extends ComputerArgumentHandler<LuaException, Met
                 if (sanitized != null) {
                     return sanitized;
                 }
+            } else if (expectedType == String[].class) {
+                String[] sanitized = convertTableToStringArray(arg);
+                if (sanitized != null) {
+                    return sanitized;
+                }
             }
         }
         //Handle nbt types as a fallback check
@@ -209,6 +214,18 @@ public class CCArgumentWrapper extends ComputerArgumentHandler<LuaException, Met
         return MethodResult.of(wrapReturnType(result));
     }
 
+    /**
+     * Wraps the result of a method for a {@link mekanism.common.integration.computer.ComputerSnapshot}. The wrapped values are copies, so they are safe to read from the
+     * computer thread.
+     */
+    static Object wrapSnapshotResult(Object result) {
+        if (result instanceof FloatingLong floatingLong) {
+            //Floating longs are passed through as numbers, so make sure we have a copy that won't be modified by the main thread
+            return MethodResult.of(floatingLong.copyAsConst());
+        }
+        return MethodResult.of(wrapReturnType(result));
+    }
+
     private static Object wrapReturnType(Object result) {
         if (result == null || result instanceof Number || result instanceof Boolean || result instanceof String) {
             //Short circuit if it doesn't need wrapping
@@ -435,6 +452,24 @@ public class CCArgumentWrapper extends ComputerArgumentHandler<LuaException, Met
         return raw instanceof Number number ? number.intValue() : 0;
     }
 
+    /**
+     * Converts a Lua list of strings, which ComputerCraft passes to us as a map of doubles from one to size, to an array of strings.
+     */
+    @Nullable
+    private static String[] convertTableToStringArray(Map<?, ?> table) {
+        int size = table.size();
+        String[] array = new String[size];
+        for (int i = 0; i < size; i++) {
+            //Note: Lua tables are one indexed
+            if (table.get((double) (i + 1)) instanceof String string) {
+                array[i] = string;
+            } else {
+                return null;
+            }
+        }
+        return array;
+    }
+
     @Nullable
     private static Object convertMapToFilter(Class<?> expectedType, Map<?, ?> map) {
         //We may want to try improving this at some point, or somehow making it slightly less hardcoded
@@ -11,6 +11,7 @@ import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.common.integration.computer.BoundComputerMethod;
 import mekanism.common.integration.computer.BoundComputerMethod.SelectedMethodInfo;
+import mekanism.common.integration.computer.ComputerSnapshot;
 import org.jetbrains.annotations.NotNull;
 
 @NothingNullByDefault
@@ -51,6 +52,21 @@ public abstract class CCMethodCaller {
             //If our selected implementation is thread-safe, run it directly
             return method.run(argumentWrapper, selectedImplementation);
         }
+        ComputerSnapshot snapshot = selectedImplementation.getMethod().snapshot();
+        if (snapshot != null) {
+            //If the method supports snapshots, and we have a recent result for it, return the result without waiting on the game thread
+            Object snapshotResult = snapshot.read();
+            if (snapshotResult != null) {
+                return (MethodResult) snapshotResult;
+            }
+            //Otherwise, run it on the game thread and publish the result so that future calls can use the snapshot
+            long task = context.issueMainThreadTask(() -> {
+                MethodResult result = method.run(argumentWrapper, selectedImplementation);
+                snapshot.publish(result, CCArgumentWrapper::wrapSnapshotResult);
+                return result.getResult();
+            });
+            return new TaskCallback(task).pull;
+        }
         //Otherwise, if it is not thread-safe (which will be the majority of our cases), queue it up to run on the game thread
         long task = context.issueMainThreadTask(() -> method.run(argumentWrapper, selectedImplementation).getResult());
         return new TaskCallback(task).pull;
@@ -11,6 +11,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.common.integration.computer.BoundComputerMethod;
+import mekanism.common.integration.computer.BulkComputerMethods;
 import mekanism.common.integration.computer.IComputerTile;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.Nullable;
@@ -25,6 +26,7 @@ public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extend
         //Linked map to ensure that the order is persisted
         Map<String, BoundComputerMethod> boundMethods = new LinkedHashMap<>();
         tile.getComputerMethods(boundMethods);
+        BulkComputerMethods.addBulkMethods(boundMethods);
         return new MekanismPeripheral<>(tile, boundMethods);
     }
 
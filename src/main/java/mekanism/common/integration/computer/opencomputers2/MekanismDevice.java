@@ -7,6 +7,7 @@ import java.util.Map;
 import li.cil.oc2.api.bus.device.rpc.RPCDevice;
 import li.cil.oc2.api.bus.device.rpc.RPCMethodGroup;
 import mekanism.common.integration.computer.BoundComputerMethod;
+import mekanism.common.integration.computer.BulkComputerMethods;
 import mekanism.common.integration.computer.IComputerTile;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +21,7 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> implements
         //Linked map to ensure that the order is persisted
         Map<String, BoundComputerMethod> boundMethods = new LinkedHashMap<>();
         tile.getComputerMethods(boundMethods);
+        BulkComputerMethods.addBulkMethods(boundMethods);
         return new MekanismDevice<>(tile, boundMethods);
     }
 
@@ -1,6 +1,7 @@
 package mekanism.common.integration.crafttweaker.module;
 
 import com.blamejared.crafttweaker.api.annotation.ZenRegister;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import mekanism.api.MekanismAPI;
@@ -78,7 +79,8 @@ public class CrTModuleHelper {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static List<IModule> loadAll(ItemStack container) {
         //ZenCode does not like ? extends IModule<?> so we need to just cast it to a type without any generics specified
-        return (List) MekanismAPI.getModuleHelper().loadAll(container);
+        //Note: We copy the list as the one we get back may be shared and unmodifiable, and scripts may expect to be able to modify it
+        return new ArrayList<>(MekanismAPI.getModuleHelper().loadAll(container));
     }
 
     /**
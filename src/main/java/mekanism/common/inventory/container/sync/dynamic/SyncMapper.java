@@ -11,7 +11,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -52,7 +51,10 @@ public class SyncMapper extends BaseAnnotationScanner {
 
     public static final SyncMapper INSTANCE = new SyncMapper();
     public static final String DEFAULT_TAG = "default";
+    //Only create the list once for the default fallback
+    private static final List<String> FALLBACK_TAGS = Collections.singletonList(DEFAULT_TAG);
     private final List<SpecialPropertyHandler<?>> specialProperties = new ArrayList<>();
+    private final Map<Class<?>, List<AnnotationData>> rawPropertyData = new Object2ObjectOpenHashMap<>();
     private final Map<Class<?>, PropertyDataClassCache> syncablePropertyMap = new Object2ObjectOpenHashMap<>();
 
     private SyncMapper() {
@@ -109,68 +111,85 @@ public class SyncMapper extends BaseAnnotationScanner {
 
     @Override
     protected void collectScanData(Map<String, Class<?>> classNameCache, Map<Class<?>, List<AnnotationData>> knownClasses, Set<IModFileInfo> modFileData) {
-        Map<Class<?>, List<PropertyFieldInfo>> rawPropertyMap = new Object2ObjectOpenHashMap<>();
-        //Only create the list once for the default fallback
-        List<String> fallbackTagsList = Collections.singletonList(DEFAULT_TAG);
-        for (Entry<Class<?>, List<AnnotationData>> entry : knownClasses.entrySet()) {
-            Class<?> annotatedClass = entry.getKey();
+        //Note: We only keep track of the annotation data here, and lazily create the getters and setters the first time a class is actually synced,
+        // as creating them involves reflection and spinning up lambdas which is wasteful to do for every class at startup when most of them may
+        // never end up being opened during a session
+        rawPropertyData.putAll(knownClasses);
+    }
+
+    /**
+     * Gets or lazily creates the cache of properties for the given class, including any properties from its parent classes.
+     */
+    private synchronized PropertyDataClassCache getOrCreateCache(Class<?> clazz) {
+        PropertyDataClassCache cache = syncablePropertyMap.get(clazz);
+        if (cache == null) {
             List<PropertyFieldInfo> propertyInfo = new ArrayList<>();
-            rawPropertyMap.put(annotatedClass, propertyInfo);
-            for (AnnotationData data : entry.getValue()) {
-                String fieldName = data.memberName();
-                Field field = getField(annotatedClass, fieldName);
-                if (field == null) {
-                    continue;
-                }
-                String getterName = getAnnotationValue(data, "getter", "");
-                PropertyField newField;
-                Class<?> fieldType = field.getType();
-                SpecialPropertyHandler<?> handler = specialProperties.stream().filter(h -> h.fieldType.isAssignableFrom(fieldType)).findFirst().orElse(null);
-                try {
-                    if (handler == null) {
-                        PropertyType type = PropertyType.getFromType(fieldType);
-                        String setterName = getAnnotationValue(data, "setter", "");
-                        if (type != null) {
-                            newField = new PropertyField(new TrackedFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
-                                  LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), type));
-                        } else if (fieldType.isEnum()) {
-                            newField = new PropertyField(new EnumFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
-                                  LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), fieldType));
-                        } else if (fieldType.isArray()) {
-                            Class<?> arrayFieldType = fieldType.getComponentType();
-                            PropertyType arrayType = PropertyType.getFromType(arrayFieldType);
-                            if (arrayType != null) {
-                                newField = new PropertyField(new ArrayFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName), arrayType));
-                            } else {
-                                Mekanism.logger.error("Attempted to sync an invalid array field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
-                                continue;
-                            }
+            List<AnnotationData> annotations = rawPropertyData.get(clazz);
+            if (annotations != null) {
+                createPropertyInfo(clazz, annotations, propertyInfo);
+            }
+            Class<?> superClass = clazz.getSuperclass();
+            if (superClass != null) {
+                //Add any properties our parent classes have
+                propertyInfo.addAll(getOrCreateCache(superClass).propertyInfo);
+            }
+            if (propertyInfo.isEmpty()) {
+                cache = PropertyDataClassCache.EMPTY;
+            } else {
+                propertyInfo.sort(Comparator.comparing(info -> info.fieldPath + "|" + info.tag));
+                cache = new PropertyDataClassCache(propertyInfo);
+            }
+            syncablePropertyMap.put(clazz, cache);
+        }
+        return cache;
+    }
+
+    private void createPropertyInfo(Class<?> annotatedClass, List<AnnotationData> annotations, List<PropertyFieldInfo> propertyInfo) {
+        for (AnnotationData data : annotations) {
+            String fieldName = data.memberName();
+            Field field = getField(annotatedClass, fieldName);
+            if (field == null) {
+                continue;
+            }
+            String getterName = getAnnotationValue(data, "getter", "");
+            PropertyField newField;
+            Class<?> fieldType = field.getType();
+            SpecialPropertyHandler<?> handler = specialProperties.stream().filter(h -> h.fieldType.isAssignableFrom(fieldType)).findFirst().orElse(null);
+            try {
+                if (handler == null) {
+                    PropertyType type = PropertyType.getFromType(fieldType);
+                    String setterName = getAnnotationValue(data, "setter", "");
+                    if (type != null) {
+                        newField = new PropertyField(new TrackedFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
+                              LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), type));
+                    } else if (fieldType.isEnum()) {
+                        newField = new PropertyField(new EnumFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName),
+                              LambdaMetaFactoryUtil.createSetter(field, annotatedClass, setterName), fieldType));
+                    } else if (fieldType.isArray()) {
+                        Class<?> arrayFieldType = fieldType.getComponentType();
+                        PropertyType arrayType = PropertyType.getFromType(arrayFieldType);
+                        if (arrayType != null) {
+                            newField = new PropertyField(new ArrayFieldData(LambdaMetaFactoryUtil.createGetter(field, annotatedClass, getterName), arrayType));
                         } else {
-                            Mekanism.logger.error("Attempted to sync an invalid field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
+                            Mekanism.logger.error("Attempted to sync an invalid array field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
                             continue;
                         }
                     } else {
-                        newField = createSpecialProperty(handler, field, annotatedClass, getterName);
+                        Mekanism.logger.error("Attempted to sync an invalid field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName());
+                        continue;
                     }
-                } catch (Throwable throwable) {
-                    Mekanism.logger.error("Failed to create sync data for field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName(), throwable);
-                    continue;
-                }
-                String fullPath = annotatedClass.getName() + "#" + fieldName;
-                //If the annotation data has tags add them, and otherwise fallback to the default tag
-                for (String tag : getAnnotationValue(data, "tags", fallbackTagsList)) {
-                    propertyInfo.add(new PropertyFieldInfo(fullPath, tag, newField));
+                } else {
+                    newField = createSpecialProperty(handler, field, annotatedClass, getterName);
                 }
+            } catch (Throwable throwable) {
+                Mekanism.logger.error("Failed to create sync data for field '{}' in class '{}'.", fieldName, annotatedClass.getSimpleName(), throwable);
+                continue;
             }
-        }
-        List<ClassBasedInfo<PropertyFieldInfo>> propertyMap = combineWithParents(rawPropertyMap);
-        for (ClassBasedInfo<PropertyFieldInfo> classPropertyInfo : propertyMap) {
-            PropertyDataClassCache cache = new PropertyDataClassCache();
-            classPropertyInfo.infoList().sort(Comparator.comparing(info -> info.fieldPath + "|" + info.tag));
-            for (PropertyFieldInfo field : classPropertyInfo.infoList()) {
-                cache.propertyFieldMap.put(field.tag, field.field);
+            String fullPath = annotatedClass.getName() + "#" + fieldName;
+            //If the annotation data has tags add them, and otherwise fallback to the default tag
+            for (String tag : getAnnotationValue(data, "tags", FALLBACK_TAGS)) {
+                propertyInfo.add(new PropertyFieldInfo(fullPath, tag, newField));
             }
-            syncablePropertyMap.put(classPropertyInfo.clazz(), cache);
         }
     }
 
@@ -179,7 +198,7 @@ public class SyncMapper extends BaseAnnotationScanner {
     }
 
     public void setup(MekanismContainer container, Class<?> holderClass, Supplier<Object> holderSupplier, String tag) {
-        PropertyDataClassCache cache = syncablePropertyMap.computeIfAbsent(holderClass, clazz -> getData(syncablePropertyMap, clazz, PropertyDataClassCache.EMPTY));
+        PropertyDataClassCache cache = getOrCreateCache(holderClass);
         for (PropertyField field : cache.propertyFieldMap.get(tag)) {
             for (TrackedFieldData data : field.trackedData) {
                 data.track(container, holderSupplier);
@@ -203,10 +222,21 @@ public class SyncMapper extends BaseAnnotationScanner {
 
     private static class PropertyDataClassCache {
 
-        private static final PropertyDataClassCache EMPTY = new PropertyDataClassCache();
+        private static final PropertyDataClassCache EMPTY = new PropertyDataClassCache(Collections.emptyList());
 
         //Note: This needs to be a linked map to ensure that the order is preserved
         private final Multimap<String, PropertyField> propertyFieldMap = LinkedHashMultimap.create();
+        /**
+         * All properties of this class and its parents, sorted. Kept so that child classes can include them when their cache is created.
+         */
+        private final List<PropertyFieldInfo> propertyInfo;
+
+        private PropertyDataClassCache(List<PropertyFieldInfo> propertyInfo) {
+            this.propertyInfo = propertyInfo;
+            for (PropertyFieldInfo field : propertyInfo) {
+                propertyFieldMap.put(field.tag, field.field);
+            }
+        }
     }
 
     private static class PropertyField {
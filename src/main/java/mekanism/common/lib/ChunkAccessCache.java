@@ -0,0 +1,79 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of the chunks that have been looked up while querying lots of positions in the same general area at once (for example multiblock validation or transporter
+ * pathfinding). Consecutive lookups are generally in the same chunk, so the last chunk that was looked up is checked before the rest of the cache. Chunks that are not
+ * loaded are also remembered so that we don't have to keep asking the world for them.
+ *
+ * @apiNote This cache is only meant to be used for the duration of a single operation, as it does not get updated when chunks load or unload.
+ */
+public class ChunkAccessCache {
+
+    private final Long2ObjectMap<ChunkAccess> chunks;
+    /**
+     * Chunks that we looked up but were not loaded, lazily initialized as most of the time everything we look at is loaded.
+     */
+    @Nullable
+    private LongSet unloadedChunks;
+    @Nullable
+    private ChunkAccess lastChunk;
+    private long lastChunkPos;
+
+    public ChunkAccessCache() {
+        chunks = new Long2ObjectOpenHashMap<>();
+    }
+
+    /**
+     * @param expectedChunks The number of chunks we expect to look up.
+     */
+    public ChunkAccessCache(int expectedChunks) {
+        chunks = new Long2ObjectOpenHashMap<>(expectedChunks);
+    }
+
+    /**
+     * Gets the chunk at the given chunk coordinates, without force loading it.
+     *
+     * @param world  world
+     * @param chunkX Chunk x coordinate
+     * @param chunkZ Chunk z coordinate
+     *
+     * @return The chunk or {@code null} if it isn't loaded.
+     */
+    @Nullable
+    public ChunkAccess getChunk(@NotNull LevelAccessor world, int chunkX, int chunkZ) {
+        long combinedChunk = ChunkPos.asLong(chunkX, chunkZ);
+        if (lastChunk != null && lastChunkPos == combinedChunk) {
+            return lastChunk;
+        }
+        ChunkAccess chunk = chunks.get(combinedChunk);
+        if (chunk == null) {
+            if (unloadedChunks != null && unloadedChunks.contains(combinedChunk)) {
+                return null;
+            }
+            //Get the chunk but don't force load it
+            chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+            if (chunk == null) {
+                if (unloadedChunks == null) {
+                    unloadedChunks = new LongOpenHashSet();
+                }
+                unloadedChunks.add(combinedChunk);
+                return null;
+            }
+            chunks.put(combinedChunk, chunk);
+        }
+        lastChunk = chunk;
+        lastChunkPos = combinedChunk;
+        return chunk;
+    }
+}
\ No newline at end of file
@@ -1,23 +1,27 @@
 package mekanism.common.lib;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class LastEnergyTracker {
 
+    private final FloatingLongAccumulator currentEnergyReceived = new FloatingLongAccumulator();
     private FloatingLong lastEnergyReceived = FloatingLong.ZERO;
-    private FloatingLong currentEnergyReceived = FloatingLong.ZERO;
     private long currentGameTime;
 
     public void received(long gameTime, FloatingLong amount) {
         if (currentGameTime == gameTime) {
             //If we are doing the current tick then increment it
-            currentEnergyReceived = currentEnergyReceived.plusEqual(amount);
+            currentEnergyReceived.plus(amount);
         } else {
             //If we aren't then store it in the amount for the last tick
+            // Note: We only publish a new value if it changed, so that when the amount received is steady we don't create any new objects
+            if (!currentEnergyReceived.valueEquals(lastEnergyReceived)) {
+                lastEnergyReceived = currentEnergyReceived.freeze();
+            }
             // update what the current game time is and set the current energy to the amount we received
-            lastEnergyReceived = currentEnergyReceived;
             currentGameTime = gameTime;
-            currentEnergyReceived = amount.copy();
+            currentEnergyReceived.set(amount);
         }
     }
 
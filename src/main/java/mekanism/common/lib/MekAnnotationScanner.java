@@ -8,12 +8,10 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
 import mekanism.common.Mekanism;
@@ -245,63 +243,5 @@ public class MekAnnotationScanner {
             method.setAccessible(true);
             return method;
         }
-
-        /**
-         * Goes up the various parent classes until we find a cache that matches it and returns the reference to it.
-         *
-         * @apiNote This should only be used really for read only purposes as changing it will then also adjust the parent's data.
-         */
-        protected static <DATA> DATA getData(Map<Class<?>, DATA> map, Class<?> clazz, DATA empty) {
-            Class<?> current = clazz;
-            while (current.getSuperclass() != null) {
-                current = current.getSuperclass();
-                DATA superCache = map.get(current);
-                if (superCache != null) {
-                    //If we already have an overall cache for the super class, return a reference to it and break out of checking super classes
-                    // We don't need to copy it as we only use it for readonly purposes
-                    return superCache;
-                }
-                //Otherwise, continue going up to the root superclass
-            }
-            return empty;
-        }
-
-        /**
-         * Gathers all info's into a list sorted by class name and adds any info from parent classes to it as well.
-         */
-        protected static <INFO> List<ClassBasedInfo<INFO>> combineWithParents(Map<Class<?>, List<INFO>> flatMap) {
-            Map<Class<?>, List<INFO>> map = new Object2ObjectOpenHashMap<>();
-            for (Entry<Class<?>, List<INFO>> entry : flatMap.entrySet()) {
-                Class<?> clazz = entry.getKey();
-                List<INFO> info = entry.getValue();
-                Class<?> current = clazz;
-                while (current.getSuperclass() != null) {
-                    current = current.getSuperclass();
-                    List<INFO> superInfo = map.get(current);
-                    if (superInfo != null) {
-                        //If we already have an overall cache for the super class, add from it and break out of checking super classes
-                        info.addAll(superInfo);
-                        break;
-                    }
-                    //Otherwise, continue building up the cache, collecting all the class names up to the root superclass
-                    superInfo = flatMap.get(current);
-                    if (superInfo != null) {
-                        //If the map has the super class, grab the fields that correspond to it
-                        //Note: We keep going here as it may have super classes higher up
-                        info.addAll(superInfo);
-                    }
-                }
-                map.put(clazz, info);
-            }
-            return map.entrySet().stream().map(entry -> new ClassBasedInfo<>(entry.getKey(), entry.getValue()))
-                  .sorted(Comparator.comparing(ClassBasedInfo::className)).toList();
-        }
-
-        protected record ClassBasedInfo<INFO>(Class<?> clazz, String className, List<INFO> infoList) {
-
-            public ClassBasedInfo(Class<?> clazz, List<INFO> infoList) {
-                this(clazz, clazz.getName(), infoList);
-            }
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package mekanism.common.lib.chunkloading;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2BooleanLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.Mekanism;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.world.ForgeChunkManager;
+
+/**
+ * Keeps track of the chunk tickets of all of Mekanism's chunk loaders. Changes to tickets are queued and then applied in a single batch at the end of the server
+ * tick, only applying the latest change for each ticket. If a loader releases and then re-adds a ticket within a tick the chunk is never touched. The manager
+ * also counts how many tickets each chunk has, which is used to report the total area that is force loaded.
+ */
+public class ChunkTicketManager {
+
+    public static final ChunkTicketManager INSTANCE = new ChunkTicketManager();
+
+    private final Map<ResourceKey<Level>, DimensionTickets> dimensions = new Object2ObjectLinkedOpenHashMap<>();
+
+    private ChunkTicketManager() {
+    }
+
+    private DimensionTickets getTickets(ServerLevel world) {
+        DimensionTickets tickets = dimensions.computeIfAbsent(world.dimension(), dimension -> new DimensionTickets());
+        tickets.world = world;
+        return tickets;
+    }
+
+    /**
+     * Queues a chunk ticket to be added or removed at the end of the tick.
+     *
+     * @param world   World the chunk is in.
+     * @param owner   Position of the chunk loader that owns the ticket.
+     * @param chunk   Chunk position as a long.
+     * @param add     {@code true} to add the ticket, {@code false} to remove it.
+     * @param ticking Whether the ticket fully ticks the chunk.
+     */
+    public void queueTicket(ServerLevel world, BlockPos owner, long chunk, boolean add, boolean ticking) {
+        //Note: We only keep the latest change for each ticket, and then compare it against what is applied when flushing
+        getTickets(world).pending.put(new TicketKey(owner, chunk, ticking), add);
+    }
+
+    /**
+     * Tracks tickets that were validated directly with Forge while the world was loading.
+     */
+    public void trackValidated(ServerLevel world, BlockPos owner, LongSet chunks, boolean ticking) {
+        DimensionTickets tickets = getTickets(world);
+        for (long chunk : chunks) {
+            tickets.markApplied(new TicketKey(owner, chunk, ticking));
+        }
+    }
+
+    /**
+     * Stops tracking all tickets owned by the given position that were released directly with Forge while the world was loading.
+     */
+    public void untrackValidated(ServerLevel world, BlockPos owner) {
+        DimensionTickets tickets = dimensions.get(world.dimension());
+        if (tickets != null) {
+            tickets.applied.removeIf(key -> {
+                if (key.owner().equals(owner)) {
+                    tickets.removeReference(key.chunk());
+                    return true;
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * Applies all queued ticket changes.
+     */
+    public void tick() {
+        for (DimensionTickets tickets : dimensions.values()) {
+            if (!tickets.pending.isEmpty()) {
+                int added = 0;
+                int removed = 0;
+                for (Object2BooleanMap.Entry<TicketKey> entry : tickets.pending.object2BooleanEntrySet()) {
+                    TicketKey key = entry.getKey();
+                    boolean add = entry.getBooleanValue();
+                    if (add && tickets.applied.contains(key)) {
+                        //The ticket is already applied, for example because it was released and then added back this tick
+                        continue;
+                    }
+                    //Note: We always release tickets we are asked to, even if we don't know about them, as they may have been added before we were tracking them
+                    long chunk = key.chunk();
+                    ForgeChunkManager.forceChunk(tickets.world, Mekanism.MODID, key.owner(), (int) chunk, (int) (chunk >> 32), add, key.ticking());
+                    if (add) {
+                        tickets.markApplied(key);
+                        added++;
+                    } else {
+                        if (tickets.applied.remove(key)) {
+                            tickets.removeReference(chunk);
+                        }
+                        removed++;
+                    }
+                }
+                tickets.pending.clear();
+                Mekanism.logger.debug("Applied {} added and {} removed chunk tickets in {}", added, removed, tickets.world.dimension().location());
+            }
+        }
+    }
+
+    public void reset() {
+        dimensions.clear();
+    }
+
+    /**
+     * @return Map of dimension to the force loaded chunk information for that dimension.
+     */
+    public Map<ResourceKey<Level>, DimensionTickets> getDimensions() {
+        return dimensions;
+    }
+
+    public static class DimensionTickets {
+
+        private final Object2BooleanMap<TicketKey> pending = new Object2BooleanLinkedOpenHashMap<>();
+        private final Set<TicketKey> applied = new ObjectOpenHashSet<>();
+        /**
+         * Number of tickets each force loaded chunk has.
+         */
+        private final Long2IntMap chunkReferences = new Long2IntOpenHashMap();
+        private ServerLevel world;
+
+        private void markApplied(TicketKey key) {
+            if (applied.add(key)) {
+                chunkReferences.mergeInt(key.chunk(), 1, Integer::sum);
+            }
+        }
+
+        private void removeReference(long chunk) {
+            int references = chunkReferences.get(chunk);
+            if (references <= 1) {
+                chunkReferences.remove(chunk);
+            } else {
+                chunkReferences.put(chunk, references - 1);
+            }
+        }
+
+        /**
+         * @return Number of tickets that Mekanism's chunk loaders have in this dimension.
+         */
+        public int getTicketCount() {
+            return applied.size();
+        }
+
+        /**
+         * @return Number of distinct chunks that are force loaded by Mekanism's chunk loaders in this dimension.
+         */
+        public int getChunkCount() {
+            return chunkReferences.size();
+        }
+    }
+
+    private record TicketKey(BlockPos owner, long chunk, boolean ticking) {
+    }
+}
\ No newline at end of file
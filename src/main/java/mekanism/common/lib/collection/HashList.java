@@ -30,6 +30,7 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public void clear() {
+        modCount++;
         list.clear();
     }
 
@@ -45,7 +46,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean add(T obj) {
-        return !list.contains(obj) && list.add(obj);
+        if (!list.contains(obj) && list.add(obj)) {
+            modCount++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -57,6 +62,7 @@ public class HashList<T> extends AbstractList<T> {
                 }
             }
             list.add(index, obj);
+            modCount++;
         }
     }
 
@@ -67,6 +73,7 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public T remove(int index) {
+        modCount++;
         return list.remove(index);
     }
 
@@ -79,7 +86,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean remove(Object obj) {
-        return list.remove(obj);
+        if (list.remove(obj)) {
+            modCount++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -111,6 +122,17 @@ public class HashList<T> extends AbstractList<T> {
         T temp = list.get(source);
         list.set(source, list.get(target));
         list.set(target, temp);
+        modCount++;
+    }
+
+    /**
+     * @return Number of times this list has been modified, can be compared against a previous value to check if anything that was calculated from the contents of
+     * this list is still valid.
+     *
+     * @implNote If this list was created wrapping an existing list, changes made directly to the wrapped list are not counted.
+     */
+    public int getModificationCount() {
+        return modCount;
     }
 
     @Override
@@ -52,6 +52,17 @@ public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EX
         return handlerCount;
     }
 
+    /**
+     * Clears all handlers and pending needs so that this target can be reused for another emit instead of allocating a new one.
+     *
+     * @apiNote Only supported by targets that were not created from a fixed collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        needed.clear();
+        handlerCount = 0;
+    }
+
     /**
      * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
      * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
@@ -23,6 +23,10 @@ public abstract class Frequency implements IFrequency {
 
     private boolean valid = true;
     private boolean publicFreq;
+    /**
+     * Whether this frequency has changes to its persistent data that have not been saved yet.
+     */
+    private boolean needsSave = true;
 
     private final FrequencyType<?> frequencyType;
 
@@ -72,9 +76,25 @@ public abstract class Frequency implements IFrequency {
 
     public Frequency setPublic(boolean isPublic) {
         publicFreq = isPublic;
+        markNeedsSave();
         return this;
     }
 
+    /**
+     * Marks that the data written by {@link #write(CompoundTag)} has changed and that this frequency needs to be saved again.
+     */
+    public void markNeedsSave() {
+        needsSave = true;
+    }
+
+    boolean needsSave() {
+        return needsSave;
+    }
+
+    void onSaved() {
+        needsSave = false;
+    }
+
     @Override
     public boolean isValid() {
         return valid;
@@ -1,6 +1,7 @@
 package mekanism.common.lib.frequency;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -84,8 +85,8 @@ public class FrequencyManager<FREQ extends Frequency> {
     public FREQ update(BlockEntity tile, FREQ freq) {
         FREQ storedFreq = getFrequency(freq.getKey());
         if (storedFreq != null) {
+            //Note: Updating which tiles are using the frequency doesn't change any persisted data so there is no need to mark the manager as dirty
             storedFreq.update(tile);
-            markDirty();
             return storedFreq;
         }
 
@@ -98,6 +99,9 @@ public class FrequencyManager<FREQ extends Frequency> {
         if (freq != null && freq.ownerMatches(ownerUUID)) {
             freq.onRemove();
             frequencies.remove(key);
+            if (dataHandler != null) {
+                dataHandler.savedFrequencies.remove(freq);
+            }
             markDirty();
             return true;
         }
@@ -107,7 +111,6 @@ public class FrequencyManager<FREQ extends Frequency> {
     public void deactivate(Frequency freq, BlockEntity tile) {
         if (freq != null) {
             freq.onDeactivate(tile);
-            markDirty();
         }
     }
 
@@ -119,7 +122,6 @@ public class FrequencyManager<FREQ extends Frequency> {
             storedFreq = freq;
         }
         storedFreq.update(tile);
-        markDirty();
         return storedFreq;
     }
 
@@ -174,7 +176,14 @@ public class FrequencyManager<FREQ extends Frequency> {
     }
 
     private void tickSelf() {
-        getFrequencies().forEach(Frequency::tick);
+        boolean needsSave = false;
+        for (FREQ freq : getFrequencies()) {
+            freq.tick();
+            needsSave |= freq.needsSave();
+        }
+        if (needsSave) {
+            markDirty();
+        }
     }
 
     public String getName() {
@@ -186,6 +195,10 @@ public class FrequencyManager<FREQ extends Frequency> {
 
         public List<FREQ> loadedFrequencies;
         public UUID loadedOwner;
+        /**
+         * Last saved data of each frequency, so that we only have to write the frequencies that have changed since the last save.
+         */
+        private final Map<FREQ, CompoundTag> savedFrequencies = new Reference2ObjectOpenHashMap<>();
 
         public void syncManager() {
             if (loadedFrequencies != null) {
@@ -199,7 +212,12 @@ public class FrequencyManager<FREQ extends Frequency> {
             ListTag list = nbtTags.getList(NBTConstants.FREQUENCY_LIST, Tag.TAG_COMPOUND);
             loadedFrequencies = new HashList<>();
             for (int i = 0; i < list.size(); i++) {
-                loadedFrequencies.add(frequencyType.create(list.getCompound(i)));
+                CompoundTag compound = list.getCompound(i);
+                FREQ freq = frequencyType.create(compound);
+                //The data we just loaded is what is currently saved for the frequency, so we don't need to write it again until it changes
+                freq.onSaved();
+                savedFrequencies.put(freq, compound);
+                loadedFrequencies.add(freq);
             }
         }
 
@@ -211,8 +229,13 @@ public class FrequencyManager<FREQ extends Frequency> {
             }
             ListTag list = new ListTag();
             for (FREQ freq : getFrequencies()) {
-                CompoundTag compound = new CompoundTag();
-                freq.write(compound);
+                CompoundTag compound = savedFrequencies.get(freq);
+                if (compound == null || freq.needsSave()) {
+                    compound = new CompoundTag();
+                    freq.write(compound);
+                    savedFrequencies.put(freq, compound);
+                    freq.onSaved();
+                }
                 list.add(compound);
             }
             nbtTags.put(NBTConstants.FREQUENCY_LIST, list);
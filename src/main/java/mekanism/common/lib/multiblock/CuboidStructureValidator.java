@@ -1,9 +1,9 @@
 package mekanism.common.lib.multiblock;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Optional;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
@@ -17,7 +17,6 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public abstract class CuboidStructureValidator<T extends MultiblockData> implements IStructureValidator<T> {
 
@@ -47,7 +46,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     }
 
     @Override
-    public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult validate(FormationProtocol<T> ctx, ChunkAccessCache chunkMap) {
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         for (int x = min.getX(); x <= max.getX(); x++) {
@@ -67,7 +66,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     /**
      * @param pos Mutable BlockPos
      */
-    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    protected FormationResult validateNode(FormationProtocol<T> ctx, ChunkAccessCache chunkMap, BlockPos pos) {
         Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
         if (optionalState.isEmpty()) {
             //If the position is not in a loaded chunk or out of bounds of the world, fail
@@ -93,7 +92,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     /**
      * @param pos Mutable BlockPos
      */
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    protected boolean validateInner(BlockState state, ChunkAccessCache chunkMap, BlockPos pos) {
         return state.isAir();
     }
 
@@ -139,7 +138,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     }
 
     @Override
-    public FormationResult postcheck(T structure, Long2ObjectMap<ChunkAccess> chunkMap) {
+    public FormationResult postcheck(T structure, ChunkAccessCache chunkMap) {
         return FormationResult.SUCCESS;
     }
 
@@ -1,7 +1,5 @@
 package mekanism.common.lib.multiblock;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.LinkedList;
 import java.util.Queue;
@@ -15,6 +13,7 @@ import mekanism.api.chemical.gas.attribute.GasAttributes;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
@@ -25,7 +24,6 @@ import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
 
 public class FormationProtocol<T extends MultiblockData> {
@@ -56,7 +54,7 @@ public class FormationProtocol<T extends MultiblockData> {
             return fail(FormationResult.FAIL);
         }
 
-        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        ChunkAccessCache chunkMap = new ChunkAccessCache();
         FormationResult result = validator.validate(this, chunkMap);
         if (!result.isFormed()) {
             return fail(result);
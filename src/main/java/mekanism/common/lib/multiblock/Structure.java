@@ -1,6 +1,5 @@
 package mekanism.common.lib.multiblock;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.EnumMap;
@@ -11,6 +10,7 @@ import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.ToIntFunction;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -20,7 +20,6 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class Structure {
 
@@ -223,7 +222,7 @@ public class Structure {
         return nodes.size();
     }
 
-    private static void validate(IMultiblockBase node, Long2ObjectMap<ChunkAccess> chunkMap) {
+    private static void validate(IMultiblockBase node, ChunkAccessCache chunkMap) {
         if (node instanceof IMultiblock<?> multiblock) {
             if (!multiblock.getStructure().isValid()) {
                 // only validate if necessary; this will already be valid if we recursively call validate()
@@ -100,6 +100,7 @@ public class SecurityFrequency extends Frequency {
 
     public void setOverridden(boolean override) {
         this.override = override;
+        markNeedsSave();
     }
 
     public boolean isOverridden() {
@@ -108,6 +109,7 @@ public class SecurityFrequency extends Frequency {
 
     public void setSecurityMode(SecurityMode securityMode) {
         this.securityMode = securityMode;
+        markNeedsSave();
     }
 
     public SecurityMode getSecurityMode() {
@@ -126,6 +128,7 @@ public class SecurityFrequency extends Frequency {
         trusted.add(uuid);
         trustedCache.add(name);
         trustedCacheHash = trustedCache.hashCode();
+        markNeedsSave();
     }
 
     @Nullable
@@ -138,6 +141,7 @@ public class SecurityFrequency extends Frequency {
             trustedCache.remove(index);
             trustedCacheHash = trustedCache.hashCode();
         }
+        markNeedsSave();
         return uuid;
     }
 }
\ No newline at end of file
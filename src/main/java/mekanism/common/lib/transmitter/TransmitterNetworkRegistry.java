@@ -2,8 +2,6 @@ package mekanism.common.lib.transmitter;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -19,6 +17,7 @@ import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -27,7 +26,6 @@ import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent.Phase;
 import net.minecraftforge.event.TickEvent.ServerTickEvent;
@@ -267,7 +265,7 @@ public class TransmitterNetworkRegistry {
 
         private final CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator;
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
-        private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        private final ChunkAccessCache chunkMap = new ChunkAccessCache();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
         private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
         private final Deque<BlockPos> queue = new LinkedList<>();
@@ -0,0 +1,77 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Map;
+import net.minecraftforge.common.util.LazyOptional;
+
+/**
+ * Keeps track of acceptors that have repeatedly rejected what a network tried to send them, so that they can be skipped for a few ticks instead of being simulated
+ * against every single tick. Each consecutive rejection doubles how long the acceptor is skipped for, up to {@link #MAX_BACKOFF_SHIFT}.
+ *
+ * @param <ACCEPTOR> The type of acceptor.
+ */
+public class AcceptorBackoff<ACCEPTOR> {
+
+    /**
+     * Maximum shift to apply when calculating how long to skip an acceptor for. A shift of one means an acceptor is never skipped for more than 2 ticks at a time.
+     *
+     * @implNote This is kept small as we have no way of being notified when an acceptor's contents change (for example when something drains a full tank), so a
+     * longer backoff would starve acceptors that become able to accept again until their backoff runs out.
+     */
+    private static final int MAX_BACKOFF_SHIFT = 1;
+
+    //Note: We key by identity of the lazy optional as that is what the acceptor cache holds onto, and it gets replaced when the acceptor changes
+    private final Map<LazyOptional<ACCEPTOR>, Backoff> backoffs = new Reference2ObjectOpenHashMap<>();
+    private long ticks;
+
+    /**
+     * Advances the internal tick counter, should be called once per emit.
+     */
+    public void tick() {
+        ticks++;
+    }
+
+    /**
+     * @return {@code true} if the given acceptor recently rejected our offer and should not be checked again yet.
+     */
+    public boolean shouldSkip(LazyOptional<ACCEPTOR> acceptor) {
+        if (backoffs.isEmpty()) {
+            return false;
+        }
+        Backoff backoff = backoffs.get(acceptor);
+        return backoff != null && ticks < backoff.retryAt;
+    }
+
+    /**
+     * Marks that the given acceptor rejected what we offered it, increasing how long we will skip it for.
+     */
+    public void rejected(LazyOptional<ACCEPTOR> acceptor) {
+        Backoff backoff = backoffs.computeIfAbsent(acceptor, a -> new Backoff());
+        backoff.retryAt = ticks + (1L << backoff.failures);
+        if (backoff.failures < MAX_BACKOFF_SHIFT) {
+            backoff.failures++;
+        }
+    }
+
+    /**
+     * Marks that the given acceptor is able to accept what we offered it, so it should no longer be skipped.
+     */
+    public void accepted(LazyOptional<ACCEPTOR> acceptor) {
+        if (!backoffs.isEmpty()) {
+            backoffs.remove(acceptor);
+        }
+    }
+
+    /**
+     * Clears all backoffs so that every acceptor gets checked on the next emit. Used when the acceptors or the type being sent changes.
+     */
+    public void wake() {
+        backoffs.clear();
+    }
+
+    private static class Backoff {
+
+        private long retryAt;
+        private int failures;
+    }
+}
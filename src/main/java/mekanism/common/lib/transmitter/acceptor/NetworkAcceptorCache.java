@@ -17,6 +17,7 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    private final AcceptorBackoff<ACCEPTOR> backoff = new AcceptorBackoff<>();
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
@@ -35,6 +36,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        //Recheck everything after merging as the set of acceptors changed
+        backoff.wake();
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -70,12 +73,22 @@ public class NetworkAcceptorCache<ACCEPTOR> {
                 }
             }
             changedAcceptors.clear();
+            //Acceptors changed, so give any backed off acceptors a chance to be checked again
+            backoff.wake();
         }
     }
 
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        backoff.wake();
+    }
+
+    /**
+     * @return Backoff tracker for acceptors that have been rejecting what this network tries to send them.
+     */
+    public AcceptorBackoff<ACCEPTOR> getBackoff() {
+        return backoff;
     }
 
     /**
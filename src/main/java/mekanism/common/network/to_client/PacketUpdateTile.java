@@ -20,7 +20,7 @@ public class PacketUpdateTile implements IMekanismPacket {
         this(tile.getBlockPos(), tile.getReducedUpdateTag());
     }
 
-    private PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
+    public PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
         this.pos = pos;
         this.updateTag = updateTag;
     }
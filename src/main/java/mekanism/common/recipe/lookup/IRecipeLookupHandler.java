@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup;
 
+import java.util.function.IntSupplier;
 import mekanism.api.IContentsListener;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
@@ -64,6 +65,19 @@ public interface IRecipeLookupHandler<RECIPE extends MekanismRecipe> extends ICo
     @NotNull
     CachedRecipe<RECIPE> createNewCachedRecipe(@NotNull RECIPE recipe, int cacheIndex);
 
+    /**
+     * Gets a supplier of a counter that changes whenever the inputs, outputs, or energy of this {@link IRecipeLookupHandler} change. If present, this is used to allow
+     * cached recipes to skip recalculating their state while idle and nothing has changed.
+     *
+     * @return Supplier of the contents version, or {@code null} if this {@link IRecipeLookupHandler} does not keep track of when its contents change.
+     *
+     * @see CachedRecipe#setContentsVersion(IntSupplier)
+     */
+    @Nullable
+    default IntSupplier getContentsVersionSupplier() {
+        return null;
+    }
+
     /**
      * Called when the cached recipe changes at a given index before processing the new cached recipe.
      *
@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.monitor;
 
+import java.util.function.IntSupplier;
 import mekanism.api.IContentsListener;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
@@ -102,7 +103,16 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     @Nullable
     @Override
     public CachedRecipe<RECIPE> createNewCachedRecipe(@NotNull RECIPE recipe, int cacheIndex) {
-        return cachedIndexMatches(cacheIndex) ? handler.createNewCachedRecipe(recipe, cacheIndex) : null;
+        if (cachedIndexMatches(cacheIndex)) {
+            CachedRecipe<RECIPE> cached = handler.createNewCachedRecipe(recipe, cacheIndex);
+            IntSupplier contentsVersion = handler.getContentsVersionSupplier();
+            if (contentsVersion != null) {
+                //If our handler tracks when its contents change, allow the cached recipe to skip recalculating when it is idle and nothing changed
+                cached.setContentsVersion(contentsVersion);
+            }
+            return cached;
+        }
+        return null;
     }
 
     @Override
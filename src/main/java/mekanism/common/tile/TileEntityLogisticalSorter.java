@@ -1,11 +1,13 @@
 package mekanism.common.tile;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.BitSet;
 import java.util.Map;
 import mekanism.api.IContentsListener;
 import mekanism.api.NBTConstants;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
+import mekanism.common.base.TagCache;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.holder.slot.IInventorySlotHolder;
 import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
@@ -24,7 +26,8 @@ import mekanism.common.inventory.container.sync.list.SyncableFilterList;
 import mekanism.common.inventory.slot.InternalInventorySlot;
 import mekanism.common.lib.SidedBlockPos;
 import mekanism.common.lib.collection.HashList;
-import mekanism.common.lib.inventory.Finder;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.TileTransitRequest;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.registries.MekanismBlocks;
@@ -37,6 +40,7 @@ import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
+import mekanism.common.util.StackUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
@@ -47,13 +51,30 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TileEntityLogisticalSorter extends TileEntityMekanism implements ISustainedData, ITileFilterHolder<SorterFilter<?>>, IHasSortableFilters {
 
+    private static final int MAX_FILTER_MATCHES = 1_024;
+
     private HashList<SorterFilter<?>> filters = new HashList<>();
-    private final Finder strictFinder = stack -> filters.stream().noneMatch(filter -> !filter.allowDefault && filter.getFinder().modifies(stack));
+    /**
+     * Which of our filters each item type matches, cleared when our filters change or tags are reloaded.
+     */
+    private final Map<HashedItem, BitSet> filterMatches = new Object2ObjectOpenHashMap<>();
+    /**
+     * Filters that don't allow items they match to be sent by default.
+     */
+    private final BitSet strictFilters = new BitSet();
+    /**
+     * Filter list and its modification count that the filter matches were calculated for.
+     */
+    @Nullable
+    private HashList<SorterFilter<?>> filterMatchesList;
+    private int filterMatchesModCount;
+    private int filterMatchesTagGeneration;
 
     @SyntheticComputerMethod(getter = "getDefaultColor")
     public EnumColor color;
@@ -93,11 +114,13 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
             //If there is no tile to pull from or the push to, skip doing any checks
             if (InventoryUtils.isItemHandler(back, direction) && front != null) {
                 boolean sentItems = false;
-                for (SorterFilter<?> filter : filters) {
-                    TransitRequest request = filter.mapInventory(back, direction, singleItem);
-                    if (request.isEmpty()) {
+                TileTransitRequest[] requests = mapInventory(back, direction);
+                for (int i = 0; i < filters.size(); i++) {
+                    TransitRequest request = requests[i];
+                    if (request == null || request.isEmpty()) {
                         continue;
                     }
+                    SorterFilter<?> filter = filters.get(i);
                     int min = singleItem ? 1 : filter.sizeMode ? filter.min : 0;
                     TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
                     if (!response.isEmpty()) {
@@ -109,8 +132,8 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
                     }
                 }
 
-                if (!sentItems && autoEject) {
-                    TransitRequest request = TransitRequest.definedItem(back, direction, singleItem ? 1 : 64, strictFinder);
+                TransitRequest request = requests[filters.size()];
+                if (!sentItems && request != null && !request.isEmpty()) {
                     TransitResponse response = emitItemToTransporter(front, request, color, 0);
                     if (!response.isEmpty()) {
                         response.useAll();
@@ -123,6 +146,97 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         }
     }
 
+    /**
+     * Builds the transit requests of all our filters, and of the items we may send by default, with a single pass over the inventory.
+     *
+     * @return Requests indexed by filter, with the request for items sent by default at the end. Requests that had no matching items are {@code null}.
+     */
+    private TileTransitRequest[] mapInventory(BlockEntity back, Direction direction) {
+        int filterCount = filters.size();
+        TileTransitRequest[] requests = new TileTransitRequest[filterCount + 1];
+        IItemHandler inventory = InventoryUtils.assertItemHandler("TileEntityLogisticalSorter", back, direction);
+        if (inventory == null) {
+            return requests;
+        }
+        validateFilterMatches();
+        int defaultMax = singleItem ? 1 : 64;
+        int[] maxAmounts = new int[filterCount];
+        int maxExtract = defaultMax;
+        for (int i = 0; i < filterCount; i++) {
+            SorterFilter<?> filter = filters.get(i);
+            maxAmounts[i] = filter.sizeMode && !singleItem ? filter.max : defaultMax;
+            maxExtract = Math.max(maxExtract, maxAmounts[i]);
+        }
+        // count backwards- we start from the bottom of the inventory and go back for consistency
+        for (int slot = inventory.getSlots() - 1; slot >= 0; slot--) {
+            ItemStack stack = inventory.extractItem(slot, maxExtract, true);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            BitSet matches = getMatchingFilters(stack);
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                addToRequest(requests, i, back, direction, stack, slot, maxAmounts[i]);
+            }
+            if (autoEject && !matches.intersects(strictFilters)) {
+                addToRequest(requests, filterCount, back, direction, stack, slot, defaultMax);
+            }
+        }
+        for (int i = 0; i < filterCount; i++) {
+            SorterFilter<?> filter = filters.get(i);
+            if (requests[i] != null && filter.sizeMode && !singleItem) {
+                // remove items that we don't have enough of
+                requests[i].getItemMap().entrySet().removeIf(entry -> entry.getValue().getTotalCount() < filter.min);
+            }
+        }
+        return requests;
+    }
+
+    private static void addToRequest(TileTransitRequest[] requests, int index, BlockEntity back, Direction direction, ItemStack stack, int slot, int max) {
+        TileTransitRequest request = requests[index];
+        if (request == null) {
+            requests[index] = request = new TileTransitRequest(back, direction);
+        }
+        int toUse = Math.min(stack.getCount(), max - request.getCount(HashedItem.raw(stack)));
+        if (toUse > 0) {
+            request.addItem(StackUtils.size(stack, toUse), slot);
+        }
+    }
+
+    /**
+     * Clears which filters item types match if our filters changed or tags were reloaded.
+     */
+    private void validateFilterMatches() {
+        int tagGeneration = TagCache.getTagGeneration();
+        if (filterMatchesList != filters || filterMatchesModCount != filters.getModificationCount() || filterMatchesTagGeneration != tagGeneration ||
+            filterMatches.size() > MAX_FILTER_MATCHES) {
+            filterMatches.clear();
+            filterMatchesList = filters;
+            filterMatchesModCount = filters.getModificationCount();
+            filterMatchesTagGeneration = tagGeneration;
+            strictFilters.clear();
+            for (int i = 0; i < filters.size(); i++) {
+                if (!filters.get(i).allowDefault) {
+                    strictFilters.set(i);
+                }
+            }
+        }
+    }
+
+    private BitSet getMatchingFilters(ItemStack stack) {
+        BitSet matches = filterMatches.get(HashedItem.raw(stack));
+        if (matches == null) {
+            matches = new BitSet(filters.size());
+            for (int i = 0; i < filters.size(); i++) {
+                if (filters.get(i).getFinder().modifies(stack)) {
+                    matches.set(i);
+                }
+            }
+            //Note: We store a copy of the stack as the one we were given may be backed by the inventory
+            filterMatches.put(HashedItem.create(stack), matches);
+        }
+        return matches;
+    }
+
     private TransitResponse emitItemToTransporter(BlockEntity front, TransitRequest request, EnumColor filterColor, int min) {
         if (front instanceof TileEntityLogisticalTransporterBase transporterBase) {
             LogisticalTransporterBase transporter = transporterBase.getTransmitter();
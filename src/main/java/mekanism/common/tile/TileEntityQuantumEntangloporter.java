@@ -1,5 +1,6 @@
 package mekanism.common.tile;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -67,12 +68,14 @@ import mekanism.common.tile.component.config.slot.IProxiedSlotInfo.SlurryProxy;
 import mekanism.common.tile.component.config.slot.ISlotInfo;
 import mekanism.common.tile.prefab.TileEntityConfigurableMachine;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
@@ -84,6 +87,11 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
 
     private double lastTransferLoss;
     private double lastEnvironmentLoss;
+    /**
+     * Cached adjacent tiles indexed by direction. These are used by the frequency when ejecting and by heat transfer so that we don't have to look up the
+     * neighbors of every entangloporter on a frequency each tick. Only tiles that exist are cached, and they get revalidated against being removed.
+     */
+    private final BlockEntity[] adjacentTiles = new BlockEntity[EnumUtils.DIRECTIONS.length];
 
     public TileEntityQuantumEntangloporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QUANTUM_ENTANGLOPORTER, pos, state);
@@ -192,6 +200,28 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
         }
     }
 
+    /**
+     * Gets the tile adjacent to this entangloporter on the given side, using the cached tile if it is still valid.
+     */
+    @Nullable
+    public BlockEntity getAdjacentTile(Direction side) {
+        int index = side.ordinal();
+        BlockEntity tile = adjacentTiles[index];
+        if (tile == null || tile.isRemoved()) {
+            //Get tile and provide if not null and the block is loaded, prevents ghost chunk loading
+            tile = WorldUtils.getTileEntity(getLevel(), getBlockPos().relative(side));
+            adjacentTiles[index] = tile;
+        }
+        return tile;
+    }
+
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        //Clear our cached neighbors so that we look them up again the next time they are needed
+        Arrays.fill(adjacentTiles, null);
+    }
+
     @ComputerMethod
     public boolean hasFrequency() {
         Frequency freq = getFreq();
@@ -221,7 +251,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
         if (hasFrequency()) {
             ISlotInfo slotInfo = configComponent.getSlotInfo(TransmissionType.HEAT, side);
             if (slotInfo != null && slotInfo.canInput()) {
-                BlockEntity adj = WorldUtils.getTileEntity(getLevel(), getBlockPos().relative(side));
+                BlockEntity adj = getAdjacentTile(side);
                 return CapabilityUtils.getCapability(adj, Capabilities.HEAT_HANDLER, side.getOpposite()).resolve().orElse(null);
             }
         }
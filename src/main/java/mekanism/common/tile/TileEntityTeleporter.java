@@ -1,8 +1,7 @@
 package mekanism.common.tile;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectArrayMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -36,6 +35,7 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableByte;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -63,8 +63,8 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.portal.PortalInfo;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -77,8 +77,22 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLoader {
 
+    /**
+     * How often in ticks we re-validate the frame while idle. Changes to blocks directly next to the teleporter cause it to be re-validated on the next tick, but as
+     * most of the frame is not adjacent to the teleporter, other changes to the frame can take up to this long to show up in the status, GUI and comparator output.
+     * Before actually teleporting anything the frame is always re-validated.
+     */
+    private static final int FRAME_RECHECK_INTERVAL = 20;
+
     public final Set<UUID> didTeleport = new ObjectOpenHashSet<>();
+    /**
+     * Entities found by the last call to {@link #canTeleport()} and the energy cost of teleporting each of them. These get reused when teleporting in the same
+     * tick so that we only have to look up the entities and calculate their costs once.
+     */
+    private final List<Entity> toTeleport = new ArrayList<>();
+    private final List<FloatingLong> teleportCosts = new ArrayList<>();
     private AABB teleportBounds;
+    private int frameRecheckDelay;
     public int teleDelay = 0;
     public boolean shouldRender;
     @Nullable
@@ -184,12 +198,13 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private void cleanTeleportCache() {
-        List<UUID> inTeleporter = level.getEntitiesOfClass(Entity.class, teleportBounds).stream().map(Entity::getUUID).toList();
-        if (inTeleporter.isEmpty()) {
-            didTeleport.clear();
-        } else {
-            didTeleport.removeIf(id -> !inTeleporter.contains(id));
-        }
+        //Look up the entities we teleported directly rather than querying all the entities in our bounds,
+        // as there are at most as many of them as entities we teleported
+        ServerLevel serverLevel = (ServerLevel) level;
+        didTeleport.removeIf(id -> {
+            Entity entity = serverLevel.getEntity(id);
+            return entity == null || entity.isSpectator() || !entity.getBoundingBox().intersects(teleportBounds);
+        });
     }
 
     private void resetBounds() {
@@ -208,7 +223,16 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
      * @apiNote Only call on server
      */
     private byte canTeleport() {
-        Direction direction = getFrameDirection();
+        toTeleport.clear();
+        teleportCosts.clear();
+        Direction direction;
+        if (frameRecheckDelay > 0) {
+            frameRecheckDelay--;
+            direction = frameDirection;
+        } else {
+            direction = getFrameDirection();
+            frameRecheckDelay = FRAME_RECHECK_INTERVAL;
+        }
         if (direction == null) {
             frameDirection = null;
             return 2;
@@ -236,9 +260,14 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         }
         FloatingLong sum = FloatingLong.ZERO;
         for (Entity entity : getToTeleport(sameDimension)) {
-            sum = sum.plusEqual(calculateEnergyCost(entity, targetWorld, closestCoords));
+            FloatingLong energyCost = calculateEnergyCost(entity, targetWorld, closestCoords);
+            toTeleport.add(entity);
+            teleportCosts.add(energyCost);
+            sum = sum.plusEqual(energyCost);
         }
         if (energyContainer.extract(sum, Action.SIMULATE, AutomationType.INTERNAL).smallerThan(sum)) {
+            toTeleport.clear();
+            teleportCosts.clear();
             return 4;
         }
         return 1;
@@ -269,11 +298,19 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     /**
+     * Teleports the entities found by the call to {@link #canTeleport()} this tick.
+     *
      * @apiNote Only call this from the server
      */
     private void teleport() {
         Coord4D closestCoords = getClosest();
-        if (closestCoords == null || level == null) {
+        if (closestCoords == null || level == null || toTeleport.isEmpty()) {
+            return;
+        }
+        if (frameRecheckDelay != FRAME_RECHECK_INTERVAL && getFrameDirection() != frameDirection) {
+            //Our frame changed since we last validated it (and canTeleport didn't just re-validate it this tick), don't teleport anything
+            // and re-validate it next tick
+            frameRecheckDelay = 0;
             return;
         }
         MinecraftServer currentServer = ServerLifecycleHooks.getCurrentServer();
@@ -282,43 +319,46 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         TileEntityTeleporter teleporter = WorldUtils.getTileEntity(TileEntityTeleporter.class, teleWorld, closestPos);
         if (teleporter != null) {
             boolean sameDimension = level.dimension() == closestCoords.dimension;
-            List<Entity> entitiesToTeleport = getToTeleport(sameDimension);
-            if (!entitiesToTeleport.isEmpty()) {
-                Set<Coord4D> activeCoords = getFrequency(FrequencyType.TELEPORTER).getActiveCoords();
-                BlockPos teleporterTargetPos = teleporter.getTeleporterTargetPos();
-                for (Entity entity : entitiesToTeleport) {
-                    markTeleported(teleporter, entity, sameDimension);
-                    teleporter.teleDelay = 5;
-                    //Calculate energy cost before teleporting the entity, as after teleporting it
-                    // the cost will be negligible due to being on top of the destination
-                    FloatingLong energyCost = calculateEnergyCost(entity, teleWorld, closestCoords);
-                    double oldX = entity.getX();
-                    double oldY = entity.getY();
-                    double oldZ = entity.getZ();
-                    Entity teleportedEntity = teleportEntityTo(entity, teleWorld, teleporterTargetPos);
-                    if (teleportedEntity instanceof ServerPlayer player) {
-                        alignPlayer(player, teleporterTargetPos, teleporter);
-                        MekanismCriteriaTriggers.TELEPORT.trigger(player);
-                    }
-                    for (Coord4D coords : activeCoords) {
-                        Level world = level.dimension() == coords.dimension ? level : currentServer.getLevel(coords.dimension);
-                        TileEntityTeleporter tile = WorldUtils.getTileEntity(TileEntityTeleporter.class, world, coords.getPos());
-                        if (tile != null) {
-                            tile.sendTeleportParticles();
-                        }
-                    }
-                    energyContainer.extract(energyCost, Action.EXECUTE, AutomationType.INTERNAL);
-                    if (teleportedEntity != null) {
-                        if (level != teleportedEntity.level || teleportedEntity.distanceToSqr(oldX, oldY, oldZ) >= 25) {
-                            //If the entity teleported over 5 blocks, play the sound at both the destination and the source
-                            level.playSound(null, oldX, oldY, oldZ, SoundEvents.ENDERMAN_TELEPORT, entity.getSoundSource(), 1.0F, 1.0F);
-                        }
-                        teleportedEntity.level.playSound(null, teleportedEntity.getX(), teleportedEntity.getY(), teleportedEntity.getZ(),
-                              SoundEvents.ENDERMAN_TELEPORT, teleportedEntity.getSoundSource(), 1.0F, 1.0F);
+            BlockPos teleporterTargetPos = teleporter.getTeleporterTargetPos();
+            for (int i = 0, size = toTeleport.size(); i < size; i++) {
+                Entity entity = toTeleport.get(i);
+                if (entity.isRemoved()) {
+                    continue;
+                }
+                markTeleported(teleporter, entity, sameDimension);
+                teleporter.teleDelay = 5;
+                //Note: The energy cost was calculated by canTeleport before teleporting the entity,
+                // as after teleporting it the cost will be negligible due to being on top of the destination
+                FloatingLong energyCost = teleportCosts.get(i);
+                double oldX = entity.getX();
+                double oldY = entity.getY();
+                double oldZ = entity.getZ();
+                Entity teleportedEntity = teleportEntityTo(entity, teleWorld, teleporterTargetPos);
+                if (teleportedEntity instanceof ServerPlayer player) {
+                    alignPlayer(player, teleporterTargetPos, teleporter);
+                    MekanismCriteriaTriggers.TELEPORT.trigger(player);
+                }
+                energyContainer.extract(energyCost, Action.EXECUTE, AutomationType.INTERNAL);
+                if (teleportedEntity != null) {
+                    if (level != teleportedEntity.level || teleportedEntity.distanceToSqr(oldX, oldY, oldZ) >= 25) {
+                        //If the entity teleported over 5 blocks, play the sound at both the destination and the source
+                        level.playSound(null, oldX, oldY, oldZ, SoundEvents.ENDERMAN_TELEPORT, entity.getSoundSource(), 1.0F, 1.0F);
                     }
+                    teleportedEntity.level.playSound(null, teleportedEntity.getX(), teleportedEntity.getY(), teleportedEntity.getZ(),
+                          SoundEvents.ENDERMAN_TELEPORT, teleportedEntity.getSoundSource(), 1.0F, 1.0F);
+                }
+            }
+            //Send the particles once for the entire batch of entities rather than once per entity
+            for (Coord4D coords : getFrequency(FrequencyType.TELEPORTER).getActiveCoords()) {
+                Level world = level.dimension() == coords.dimension ? level : currentServer.getLevel(coords.dimension);
+                TileEntityTeleporter tile = WorldUtils.getTileEntity(TileEntityTeleporter.class, world, coords.getPos());
+                if (tile != null) {
+                    tile.sendTeleportParticles();
                 }
             }
         }
+        toTeleport.clear();
+        teleportCosts.clear();
     }
 
     private void markTeleported(TileEntityTeleporter teleporter, Entity entity, boolean sameDimension) {
@@ -475,6 +515,10 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
             energyCost = energyCost.add(MekanismConfig.usage.teleporterDimensionPenalty.get())
                   .plusEqual(MekanismConfig.usage.teleporterDistance.get().multiply(distance));
         }
+        if (!entity.isVehicle()) {
+            //Skip collecting the passengers if there aren't any
+            return energyCost;
+        }
         //Factor the number of passengers of this entity into the teleportation energy cost
         Set<Entity> passengers = new HashSet<>();
         fillIndirectPassengers(entity, sameDimension, passengers);
@@ -498,11 +542,16 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
      */
     @Nullable
     private Direction getFrameDirection() {
+        //Cache the chunks we are looking up to check the frames of
+        // Note: We check such a small area, that if we do go across chunks we will be in at most two in general due to the
+        // size of our teleporter. But given we need to check multiple directions we might end up checking two different
+        // cross chunk directions which would end up at three
+        ChunkAccessCache chunkMap = new ChunkAccessCache(3);
         for (Direction direction : EnumUtils.DIRECTIONS) {
-            if (hasFrame(direction, false)) {
+            if (hasFrame(chunkMap, direction, false)) {
                 frameRotated = false;
                 return direction;
-            } else if (hasFrame(direction, true)) {
+            } else if (hasFrame(chunkMap, direction, true)) {
                 frameRotated = true;
                 return direction;
             }
@@ -513,12 +562,13 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     /**
      * Checks whether this Teleporter has a Frame in the given Direction.
      *
+     * @param chunkMap  cache of the chunks that have been looked up while checking for the frame.
      * @param direction the direction from the Teleporter block in which the frame should be.
      * @param rotated   whether the frame is rotated by 90 degrees.
      *
      * @return whether the frame exists.
      */
-    private boolean hasFrame(Direction direction, boolean rotated) {
+    private boolean hasFrame(ChunkAccessCache chunkMap, Direction direction, boolean rotated) {
         int alternatingX = 0;
         int alternatingY = 0;
         int alternatingZ = 0;
@@ -536,11 +586,6 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         int xComponent = direction.getStepX();
         int yComponent = direction.getStepY();
         int zComponent = direction.getStepZ();
-        //Cache the chunks we are looking up to check the frames of
-        // Note: We can use an array based map, because we check suck a small area, that if we do go across chunks
-        // we will be in at most two in general due to the size of our teleporter. But given we need to check multiple
-        // directions we might end up checking two different cross chunk directions which would end up at three
-        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectArrayMap<>(3);
         return isFramePair(chunkMap, 0, alternatingX, 0, alternatingY, 0, alternatingZ) &&
                isFramePair(chunkMap, xComponent, alternatingX, yComponent, alternatingY, zComponent, alternatingZ) &&
                isFramePair(chunkMap, 2 * xComponent, alternatingX, 2 * yComponent, alternatingY, 2 * zComponent, alternatingZ) &&
@@ -548,16 +593,23 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
                isFrame(chunkMap, 3 * xComponent, 3 * yComponent, 3 * zComponent);
     }
 
-    private boolean isFramePair(Long2ObjectMap<ChunkAccess> chunkMap, int xOffset, int alternatingX, int yOffset, int alternatingY, int zOffset, int alternatingZ) {
+    private boolean isFramePair(ChunkAccessCache chunkMap, int xOffset, int alternatingX, int yOffset, int alternatingY, int zOffset, int alternatingZ) {
         return isFrame(chunkMap, xOffset - alternatingX, yOffset - alternatingY, zOffset - alternatingZ) &&
                isFrame(chunkMap, xOffset + alternatingX, yOffset + alternatingY, zOffset + alternatingZ);
     }
 
-    private boolean isFrame(Long2ObjectMap<ChunkAccess> chunkMap, int xOffset, int yOffset, int zOffset) {
+    private boolean isFrame(ChunkAccessCache chunkMap, int xOffset, int yOffset, int zOffset) {
         Optional<BlockState> state = WorldUtils.getBlockState(level, chunkMap, worldPosition.offset(xOffset, yOffset, zOffset));
         return state.filter(blockState -> blockState.is(MekanismBlocks.TELEPORTER_FRAME.getBlock())).isPresent();
     }
 
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        //Re-validate our frame the next time we tick
+        frameRecheckDelay = 0;
+    }
+
     /**
      * Gets the direction from the teleporter in which the frame is.
      *
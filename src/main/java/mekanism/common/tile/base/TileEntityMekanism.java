@@ -160,6 +160,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
      * A timer used to send packets to clients.
      */
     public int ticker;
+    /**
+     * Whether this tile is currently in the middle of ticking on the server, used to defer sending update packets until the end of the tick.
+     */
+    private boolean tickingServer;
+    /**
+     * Whether an update packet was requested while we were ticking and still needs to be sent.
+     */
+    private boolean updatePacketQueued;
     private final List<ICapabilityHandlerManager<?>> capabilityHandlerManagers = new ArrayList<>();
     private final List<ITileComponent> components = new ArrayList<>();
 
@@ -555,6 +563,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        tile.tickingServer = true;
         tile.frequencyComponent.tickServer();
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -576,7 +585,6 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         tile.onUpdateServer();
         tile.updateRadiationScale();
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.persists(SubstanceType.HEAT)) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -598,6 +606,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (tile.supportsRedstone()) {
             tile.redstoneLastTick = tile.redstone;
         }
+        tile.tickingServer = false;
+        if (tile.updatePacketQueued) {
+            //If any updates were requested while we were ticking, send a single update now that we are done
+            tile.updatePacketQueued = false;
+            if (!tile.isRemoved()) {
+                tile.sendUpdatePacket();
+            }
+        }
     }
 
     public void open(Player player) {
@@ -798,6 +814,17 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    @Override
+    public void sendUpdatePacket(BlockEntity tracking) {
+        if (tickingServer && tracking == this) {
+            //If we are currently ticking, defer sending the update until the end of the tick so that if multiple things change
+            // during the tick we only end up sending a single update packet
+            updatePacketQueued = true;
+        } else {
+            super.sendUpdatePacket(tracking);
+        }
+    }
+
     @NotNull
     @Override
     public CompoundTag getReducedUpdateTag() {
@@ -1318,17 +1345,17 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     // where being able to get a specific container's stored energy would be useful to their program. Alternatively we could
     // probably make use of our synthetic computer method wrapper to just add extra methods so then have it basically create
     // getEnergy, getEnergyFE for us with us only having to define getEnergy
-    @ComputerMethod(nameOverride = "getEnergy", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergy", restriction = MethodRestriction.ENERGY, snapshot = true)
     private FloatingLong getTotalEnergy() {
         return getTotalEnergy(IEnergyContainer::getEnergy);
     }
 
-    @ComputerMethod(nameOverride = "getMaxEnergy", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getMaxEnergy", restriction = MethodRestriction.ENERGY, snapshot = true)
     private FloatingLong getTotalMaxEnergy() {
         return getTotalEnergy(IEnergyContainer::getMaxEnergy);
     }
 
-    @ComputerMethod(nameOverride = "getEnergyNeeded", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergyNeeded", restriction = MethodRestriction.ENERGY, snapshot = true)
     private FloatingLong getTotalEnergyNeeded() {
         return getTotalEnergy(IEnergyContainer::getNeeded);
     }
@@ -1342,7 +1369,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return total;
     }
 
-    @ComputerMethod(nameOverride = "getEnergyFilledPercentage", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergyFilledPercentage", restriction = MethodRestriction.ENERGY, snapshot = true)
     private double getTotalEnergyFilledPercentage() {
         FloatingLong stored = FloatingLong.ZERO;
         FloatingLong max = FloatingLong.ZERO;
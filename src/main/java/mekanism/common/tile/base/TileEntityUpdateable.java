@@ -30,6 +30,15 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private Coord4D cachedCoord;
     private boolean cacheCoord;
     private long lastSave;
+    /**
+     * Counter that is incremented every time this tile is marked as changed, used to allow cheaply detecting if anything may have changed since a prior point in time.
+     */
+    private int contentsVersion;
+    /**
+     * The last update tag we sent to all players tracking this tile, used to skip sending updates that wouldn't change anything on the client.
+     */
+    @Nullable
+    private CompoundTag lastSentUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -74,6 +83,14 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     public void markDirtyComparator() {
     }
 
+    /**
+     * Gets a counter that changes every time this tile is marked as changed. The value itself has no meaning beyond comparing it to a previously retrieved value to see if
+     * the tile may have changed in between.
+     */
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
     @Override
     public final void setChanged() {
         setChanged(true);
@@ -84,6 +101,7 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     }
 
     protected void setChanged(boolean updateComparator) {
+        contentsVersion++;
         //Copy of the base impl of markDirty in TileEntity, except only updates comparator state when something changed
         // and if our block supports having a comparator signal, instead of always doing it
         if (level != null) {
@@ -149,10 +167,20 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
         } else {
+            CompoundTag updateTag = getReducedUpdateTag();
+            if (tracking == this) {
+                //If the players tracking this tile are the ones receiving the update, we can skip sending it if nothing changed since
+                // the last update we sent them. Players that start tracking this tile in between will receive the full update tag with
+                // the chunk data so will also already have the same information
+                if (updateTag.equals(lastSentUpdateTag)) {
+                    return;
+                }
+                lastSentUpdateTag = updateTag;
+            }
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(this), tracking);
+            Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(getBlockPos(), updateTag), tracking);
         }
     }
 
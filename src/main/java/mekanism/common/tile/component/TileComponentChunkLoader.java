@@ -13,6 +13,7 @@ import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.chunkloading.ChunkTicketManager;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.core.BlockPos;
@@ -63,7 +64,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         LOGGER.debug("Attempting to remove {} chunk tickets. Pos: {} World: {}", tickets, pos, world.dimension().location());
         if (tickets > 0) {
             for (long chunkPos : chunkSet) {
-                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), false, forceTicks);
+                ChunkTicketManager.INSTANCE.queueTicket(world, pos, chunkPos, false, forceTicks);
             }
             chunkSet.clear();
             markDirty();
@@ -80,8 +81,9 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
         LOGGER.debug("Attempting to add {} chunk tickets. Pos: {} World: {}", tickets, prevPos, world.dimension().location());
         if (tickets > 0) {
             for (ChunkPos chunkPos : chunks) {
-                ForgeChunkManager.forceChunk(world, Mekanism.MODID, prevPos, chunkPos.x, chunkPos.z, true, forceTicks);
-                chunkSet.add(chunkPos.toLong());
+                long chunk = chunkPos.toLong();
+                ChunkTicketManager.INSTANCE.queueTicket(world, prevPos, chunk, true, forceTicks);
+                chunkSet.add(chunk);
             }
             markDirty();
         }
@@ -143,7 +145,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             if (!chunks.contains(chunkPos)) {
                                 //If the chunk is no longer in our chunks we want loaded
                                 // then we need to unforce the chunk and remove it
-                                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), false, forceTicks);
+                                ChunkTicketManager.INSTANCE.queueTicket(world, pos, chunkPos, false, forceTicks);
                                 chunkIt.remove();
                                 removed++;
                             }
@@ -153,7 +155,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             if (chunkSet.add(chunkPos)) {
                                 //If we didn't already have it in our chunk set and added actually added it as it is new
                                 // then we also need to force the chunk
-                                ForgeChunkManager.forceChunk(world, Mekanism.MODID, pos, (int) chunkPos, (int) (chunkPos >> 32), true, forceTicks);
+                                ChunkTicketManager.INSTANCE.queueTicket(world, pos, chunkPos, true, forceTicks);
                                 added++;
                             }
                         }
@@ -278,7 +280,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                             // just release them all
                             LOGGER.warn("Removing {} chunk tickets as they are no longer valid as this loader does not expect to have any tickets even "
                                         + "though it is can operate. Pos: {} World: {}", ticketCount, pos, worldName);
-                            releaseAllTickets(chunkLoader, pos, ticketHelper);
+                            releaseAllTickets(world, chunkLoader, pos, ticketHelper);
                         } else {
                             //Calculate the differences to properly adjust which chunks are loaded and which ones are not
                             int removed = 0;
@@ -307,6 +309,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                                     added++;
                                 }
                             }
+                            ChunkTicketManager.INSTANCE.trackValidated(world, pos, chunkLoader.chunkSet, chunkLoader.forceTicks);
                             //Mark the chunk loader as being initialized
                             chunkLoader.hasRegistered = true;
                             chunkLoader.prevWorld = world;
@@ -326,7 +329,7 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
                         // Note: Info level as this may be intended/expected when if the chunk loading config changed
                         LOGGER.info("Removing {} chunk tickets as they are no longer valid as this loader cannot operate. Pos: {} World: {}", ticketCount,
                               pos, worldName);
-                        releaseAllTickets(chunkLoader, pos, ticketHelper);
+                        releaseAllTickets(world, chunkLoader, pos, ticketHelper);
                     }
                 } else {
                     //Not a valid chunk/tile, remove all positions
@@ -336,9 +339,10 @@ public class TileComponentChunkLoader<T extends TileEntityMekanism & IChunkLoade
             }
         }
 
-        private void releaseAllTickets(TileComponentChunkLoader<?> chunkLoader, BlockPos pos, TicketHelper ticketHelper) {
+        private void releaseAllTickets(ServerLevel world, TileComponentChunkLoader<?> chunkLoader, BlockPos pos, TicketHelper ticketHelper) {
             //Release any tickets we have assigned to us that we loaded with
             ticketHelper.removeAllTickets(pos);
+            ChunkTicketManager.INSTANCE.untrackValidated(world, pos);
             // and also clear any of the tickets the chunk loader thinks it has
             // making sure to mark it as not registered and having no previous world
             // even though those values are likely already at the proper values
@@ -5,12 +5,13 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
@@ -71,6 +72,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.items.ItemHandlerHelper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -100,6 +102,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * Processes whose input slot changed since we last sorted, and thus need their grouping updated and their group rebalanced.
+     */
+    private BitSet changedProcesses;
+    /**
+     * Groupings of processes by their input type, maintained between sorts so that we only have to update and rebalance the groups that actually changed.
+     */
+    private final Map<HashedItem, RecipeProcessInfo> sortingGroups = new HashMap<>();
+    /**
+     * Per process key of the sorting group the process belongs to, or {@code null} if the process' input slot was empty when we last updated the groupings.
+     */
+    private HashedItem[] sortingKeys;
+    private boolean rebuildSortingGroups = true;
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -170,7 +185,12 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        changedProcesses = new BitSet(tier.processes);
+        sortingKeys = new HashedItem[tier.processes];
+        IntConsumer setSortingNeeded = process -> {
+            sortingNeeded = true;
+            changedProcesses.set(process);
+        };
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
             recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
@@ -192,6 +212,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         addSlots(builder, listener, () -> {
             listener.onContentsChanged();
             //Mark sorting as being needed again
+            //Note: Changes to outputs only affect whether empty processes can be used, so we don't need to mark the process as changed
             sortingNeeded = true;
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
@@ -222,6 +243,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             //If sorting is needed, and we have sorting enabled mark
             // sorting as no longer needed and sort the inventory
             sortingNeeded = false;
+            if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //If recipes may have changed, our cached groupings may be out of date
+                rebuildSortingGroups = true;
+            }
             // Note: If sorting happens, sorting will be marked as needed once more
             // (due to changes in the inventory), but this is fine, and we purposely
             // mark sorting being needed as false before instead of after this method
@@ -235,6 +260,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             // Mark sorting as being needed again for the next check as recipes may
             // have changed so our current sort may be incorrect
             sortingNeeded = true;
+            rebuildSortingGroups = true;
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -347,12 +373,18 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return getProgress(cacheIndex);
     }
 
+    @Override
+    public IntSupplier getContentsVersionSupplier() {
+        return this::getContentsVersion;
+    }
+
     public double getScaledProgress(int i, int process) {
         return (double) getProgress(process) * i / ticksRequired;
     }
 
     public void toggleSorting() {
         sorting = !isSorting();
+        rebuildSortingGroups = true;
         markForSave();
     }
 
@@ -517,70 +549,123 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     //End methods IComputerTile
 
     private void sortInventory() {
-        Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
+        if (rebuildSortingGroups) {
+            //If we need to rebuild our groupings from scratch, clear our existing groups and mark all processes as changed
+            rebuildSortingGroups = false;
+            sortingGroups.clear();
+            Arrays.fill(sortingKeys, null);
+            changedProcesses.set(0, processInfoSlots.length);
+        }
+        //Update the groupings of any processes that changed since the last time we sorted
+        for (int process = changedProcesses.nextSetBit(0); process >= 0; process = changedProcesses.nextSetBit(process + 1)) {
+            updateSortingGroup(processInfoSlots[process]);
+        }
+        //Note: We clear the changed processes before distributing so that any changes caused by distributing get handled the next time we sort
+        changedProcesses.clear();
+        if (sortingGroups.isEmpty()) {
+            //If all input slots are empty, just exit
+            return;
+        }
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
         for (ProcessInfo processInfo : processInfoSlots) {
-            IInventorySlot inputSlot = processInfo.inputSlot();
-            if (inputSlot.isEmpty()) {
+            if (sortingKeys[processInfo.process()] == null) {
                 emptyProcesses.add(processInfo);
-            } else {
-                ItemStack inputStack = inputSlot.getStack();
-                HashedItem item = HashedItem.raw(inputStack);
-                RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
-                recipeProcessInfo.processes.add(processInfo);
-                recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
-                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
-                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
-                        // And our current process has a cached recipe then set the lazily initialized per slot value
-                        // Note: If something goes wrong, and we end up with zero as how much we need as an input
-                        // we just bump the value up to one to make sure we properly handle it
-                        recipeProcessInfo.lazyMinPerSlot = () -> Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
-                    }
-                }
             }
         }
-        if (processes.isEmpty()) {
-            //If all input slots are empty, just exit
-            return;
-        }
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            if (recipeProcessInfo.lazyMinPerSlot == null) {
-                //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
-                // no valid cached recipe for any of the slots of this type currently, so we want to try and
-                // get the recipe we will have for the first slot, once we end up with more items in the stack
-                recipeProcessInfo.lazyMinPerSlot = () -> {
-                    //Note: We put all of this logic in the lazy init, so that we don't actually call any of this
-                    // until it is needed. That way if we have no empty slots and all our input slots are filled
-                    // we don't do any extra processing here, and can properly short circuit
-                    HashedItem item = entry.getKey();
-                    ItemStack largerInput = item.createStack(Math.min(item.getStack().getMaxStackSize(), recipeProcessInfo.totalCount));
-                    ProcessInfo processInfo = recipeProcessInfo.processes.get(0);
-                    //Try getting a recipe for our input with a larger size, and update the cache if we find one
-                    RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
-                    if (recipe != null) {
-                        return Math.max(1, getNeededInput(recipe, largerInput));
-                    }
-                    return 1;
-                };
+        for (RecipeProcessInfo recipeProcessInfo : sortingGroups.values()) {
+            if (recipeProcessInfo.changed) {
+                //Only recalculate the counts and requirements of groups that actually changed
+                recalculateGroup(recipeProcessInfo);
             }
         }
         if (!emptyProcesses.isEmpty()) {
             //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
+            addEmptySlotsAsTargets(emptyProcesses);
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        distributeItems();
+    }
+
+    /**
+     * Updates which sorting group the given process belongs to based on the current contents of its input slot.
+     */
+    private void updateSortingGroup(ProcessInfo processInfo) {
+        int process = processInfo.process();
+        ItemStack inputStack = processInfo.inputSlot().getStack();
+        HashedItem oldKey = sortingKeys[process];
+        if (oldKey != null) {
+            RecipeProcessInfo oldGroup = sortingGroups.get(oldKey);
+            if (!inputStack.isEmpty() && ItemHandlerHelper.canItemStacksStack(oldKey.getStack(), inputStack)) {
+                //The type didn't change, only the amount, so we just need to mark the group as changed so that it gets rebalanced
+                oldGroup.changed = true;
+                return;
+            }
+            //Remove the process from the group it used to be in
+            oldGroup.processes.remove(processInfo);
+            if (oldGroup.processes.isEmpty()) {
+                sortingGroups.remove(oldKey);
+            } else {
+                oldGroup.changed = true;
+            }
+            sortingKeys[process] = null;
+        }
+        if (!inputStack.isEmpty()) {
+            RecipeProcessInfo group = sortingGroups.get(HashedItem.raw(inputStack));
+            if (group == null) {
+                //Note: As the groups persist between sorts, we have to make a copy of the stack for the key rather than using the raw stack
+                group = new RecipeProcessInfo(HashedItem.create(inputStack));
+                sortingGroups.put(group.item, group);
+            }
+            group.addProcess(processInfo);
+            group.changed = true;
+            sortingKeys[process] = group.item;
+        }
     }
 
-    private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo> processes, List<ProcessInfo> emptyProcesses) {
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
+    private void recalculateGroup(RecipeProcessInfo recipeProcessInfo) {
+        recipeProcessInfo.totalCount = 0;
+        recipeProcessInfo.lazyMinPerSlot = null;
+        recipeProcessInfo.minPerSlot = 1;
+        for (ProcessInfo processInfo : recipeProcessInfo.processes) {
+            ItemStack inputStack = processInfo.inputSlot().getStack();
+            recipeProcessInfo.totalCount += inputStack.getCount();
+            if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //If we don't have a lazily initialized min per slot calculation set for it yet
+                // and our cache is not invalid/out of date due to a reload
+                CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
+                if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                    // And our current process has a cached recipe then set the lazily initialized per slot value
+                    // Note: If something goes wrong, and we end up with zero as how much we need as an input
+                    // we just bump the value up to one to make sure we properly handle it
+                    recipeProcessInfo.lazyMinPerSlot = () -> Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
+                }
+            }
+        }
+        if (recipeProcessInfo.lazyMinPerSlot == null) {
+            //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
+            // no valid cached recipe for any of the slots of this type currently, so we want to try and
+            // get the recipe we will have for the first slot, once we end up with more items in the stack
+            recipeProcessInfo.lazyMinPerSlot = () -> {
+                //Note: We put all of this logic in the lazy init, so that we don't actually call any of this
+                // until it is needed. That way if we have no empty slots and all our input slots are filled
+                // we don't do any extra processing here, and can properly short circuit
+                HashedItem item = recipeProcessInfo.item;
+                ItemStack largerInput = item.createStack(Math.min(item.getStack().getMaxStackSize(), recipeProcessInfo.totalCount));
+                ProcessInfo processInfo = recipeProcessInfo.processes.get(0);
+                //Try getting a recipe for our input with a larger size, and update the cache if we find one
+                RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
+                if (recipe != null) {
+                    return Math.max(1, getNeededInput(recipe, largerInput));
+                }
+                return 1;
+            };
+        }
+    }
+
+    private void addEmptySlotsAsTargets(List<ProcessInfo> emptyProcesses) {
+        for (RecipeProcessInfo recipeProcessInfo : sortingGroups.values()) {
             int minPerSlot = recipeProcessInfo.getMinPerSlot();
             int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
             if (maxSlots <= 1) {
@@ -594,7 +679,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
                 continue;
             }
             //Note: This is some arbitrary input stack one of the stacks contained
-            ItemStack sourceStack = entry.getKey().getStack();
+            ItemStack sourceStack = recipeProcessInfo.item.getStack();
             int emptyToAdd = maxSlots - processCount;
             int added = 0;
             List<ProcessInfo> toRemove = new ArrayList<>();
@@ -603,7 +688,9 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
                     //If the input is valid for the stuff in the empty process' output slot
                     // then add our empty process to our recipeProcessInfo, and mark
                     // the empty process as accounted for
+                    // Note: We mark the group as changed so that it gets rebalanced to include the empty process
                     recipeProcessInfo.processes.add(emptyProcess);
+                    recipeProcessInfo.changed = true;
                     toRemove.add(emptyProcess);
                     added++;
                     if (added >= emptyToAdd) {
@@ -621,99 +708,109 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         }
     }
 
-    private void distributeItems(Map<HashedItem, RecipeProcessInfo> processes) {
-        for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
-            RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            int processCount = recipeProcessInfo.processes.size();
-            if (processCount == 1) {
-                //If there is only one process with the item in it; short-circuit, no balancing is needed
-                continue;
+    private void distributeItems() {
+        for (RecipeProcessInfo recipeProcessInfo : sortingGroups.values()) {
+            if (recipeProcessInfo.changed) {
+                //Only rebalance groups that changed since the last time we balanced them
+                recipeProcessInfo.changed = false;
+                distributeItems(recipeProcessInfo);
+                //Remove any empty processes we added as targets from the group, if they received any items the slot changing will
+                // cause them to be added back properly the next time we sort
+                recipeProcessInfo.processes.removeIf(processInfo -> sortingKeys[processInfo.process()] == null);
             }
-            HashedItem item = entry.getKey();
-            //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
-            int maxStackSize = item.getStack().getMaxStackSize();
-            int numberPerSlot = recipeProcessInfo.totalCount / processCount;
-            if (numberPerSlot == maxStackSize) {
-                //If all the slots are already maxed out; short-circuit, no balancing is needed
-                continue;
+        }
+    }
+
+    private void distributeItems(RecipeProcessInfo recipeProcessInfo) {
+        int processCount = recipeProcessInfo.processes.size();
+        if (processCount == 1) {
+            //If there is only one process with the item in it; short-circuit, no balancing is needed
+            return;
+        }
+        HashedItem item = recipeProcessInfo.item;
+        //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
+        int maxStackSize = item.getStack().getMaxStackSize();
+        int numberPerSlot = recipeProcessInfo.totalCount / processCount;
+        if (numberPerSlot == maxStackSize) {
+            //If all the slots are already maxed out; short-circuit, no balancing is needed
+            return;
+        }
+        int remainder = recipeProcessInfo.totalCount % processCount;
+        int minPerSlot = recipeProcessInfo.getMinPerSlot();
+        if (minPerSlot > 1) {
+            int perSlotRemainder = numberPerSlot % minPerSlot;
+            if (perSlotRemainder > 0) {
+                //Reduce the number we distribute per slot by what our excess
+                // is if we are trying to balance it by the size of the input
+                // required by the recipe
+                numberPerSlot -= perSlotRemainder;
+                // and then add how many items we removed to our remainder
+                remainder += perSlotRemainder * processCount;
+                // Note: After this processing the remainder is at most:
+                // processCount - 1 + processCount * (minPerSlot - 1) =
+                // processCount - 1 + processCount * minPerSlot - processCount =
+                // processCount * minPerSlot - 1
+                // Which means that reducing the remainder by minPerSlot for each
+                // slot while we still have a remainder, will make sure
             }
-            int remainder = recipeProcessInfo.totalCount % processCount;
-            int minPerSlot = recipeProcessInfo.getMinPerSlot();
-            if (minPerSlot > 1) {
-                int perSlotRemainder = numberPerSlot % minPerSlot;
-                if (perSlotRemainder > 0) {
-                    //Reduce the number we distribute per slot by what our excess
-                    // is if we are trying to balance it by the size of the input
-                    // required by the recipe
-                    numberPerSlot -= perSlotRemainder;
-                    // and then add how many items we removed to our remainder
-                    remainder += perSlotRemainder * processCount;
-                    // Note: After this processing the remainder is at most:
-                    // processCount - 1 + processCount * (minPerSlot - 1) =
-                    // processCount - 1 + processCount * minPerSlot - processCount =
-                    // processCount * minPerSlot - 1
-                    // Which means that reducing the remainder by minPerSlot for each
-                    // slot while we still have a remainder, will make sure
-                }
-                if (numberPerSlot + minPerSlot > maxStackSize) {
-                    //If adding how much we want per slot would cause the slot to overflow
-                    // we reduce how much we set per slot to how much there is room for
-                    // Note: we can do this safely because while our remainder may be
-                    // processCount * minPerSlot - 1 (as shown above), if we are in
-                    // this if statement, that means that we really have at most:
-                    // processCount * maxStackSize - 1 items being distributed and
-                    // have: processCount * numberPerSlot + remainder
-                    // which means that our remainder is actually at most:
-                    // processCount * (maxStackSize - numberPerSlot) - 1
-                    // so we can safely set our per slot distribution to maxStackSize - numberPerSlot
-                    minPerSlot = maxStackSize - numberPerSlot;
+            if (numberPerSlot + minPerSlot > maxStackSize) {
+                //If adding how much we want per slot would cause the slot to overflow
+                // we reduce how much we set per slot to how much there is room for
+                // Note: we can do this safely because while our remainder may be
+                // processCount * minPerSlot - 1 (as shown above), if we are in
+                // this if statement, that means that we really have at most:
+                // processCount * maxStackSize - 1 items being distributed and
+                // have: processCount * numberPerSlot + remainder
+                // which means that our remainder is actually at most:
+                // processCount * (maxStackSize - numberPerSlot) - 1
+                // so we can safely set our per slot distribution to maxStackSize - numberPerSlot
+                minPerSlot = maxStackSize - numberPerSlot;
+            }
+        }
+        for (int i = 0; i < processCount; i++) {
+            ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
+            FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
+            int sizeForSlot = numberPerSlot;
+            if (remainder > 0) {
+                //If we have a remainder, factor it into our slots
+                if (remainder > minPerSlot) {
+                    //If our remainder is greater than how much we need to fill out the min amount for the slot based
+                    // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
+                    // by how much we need, and decrease our remainder by that amount
+                    sizeForSlot += minPerSlot;
+                    remainder -= minPerSlot;
+                } else {
+                    //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
+                    sizeForSlot += remainder;
+                    remainder = 0;
                 }
             }
-            for (int i = 0; i < processCount; i++) {
-                ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
-                FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
-                int sizeForSlot = numberPerSlot;
-                if (remainder > 0) {
-                    //If we have a remainder, factor it into our slots
-                    if (remainder > minPerSlot) {
-                        //If our remainder is greater than how much we need to fill out the min amount for the slot based
-                        // on the recipe then, to keep it distributed as evenly as possible, increase our size for the slot
-                        // by how much we need, and decrease our remainder by that amount
-                        sizeForSlot += minPerSlot;
-                        remainder -= minPerSlot;
-                    } else {
-                        //Otherwise, add our entire remainder to the size for slot, and mark our remainder as fully used
-                        sizeForSlot += remainder;
-                        remainder = 0;
-                    }
+            if (inputSlot.isEmpty()) {
+                //Note: sizeForSlot should never be zero here as we would not have added
+                // the empty slot to this item's distribution grouping if it would not
+                // end up getting any items; check it just in case though before creating
+                // a stack for the slot and setting it
+                if (sizeForSlot > 0) {
+                    //Note: We use setStackUnchecked here, as there is a very small chance that
+                    // the stack is not actually valid for the slot because of a reload causing
+                    // recipes to change. If this is the case, then we want to properly not crash,
+                    // but we would rather not add any extra overhead about revalidating the item
+                    // each time as it can get somewhat expensive.
+                    inputSlot.setStackUnchecked(item.createStack(sizeForSlot));
                 }
-                if (inputSlot.isEmpty()) {
-                    //Note: sizeForSlot should never be zero here as we would not have added
-                    // the empty slot to this item's distribution grouping if it would not
-                    // end up getting any items; check it just in case though before creating
-                    // a stack for the slot and setting it
-                    if (sizeForSlot > 0) {
-                        //Note: We use setStackUnchecked here, as there is a very small chance that
-                        // the stack is not actually valid for the slot because of a reload causing
-                        // recipes to change. If this is the case, then we want to properly not crash,
-                        // but we would rather not add any extra overhead about revalidating the item
-                        // each time as it can get somewhat expensive.
-                        inputSlot.setStackUnchecked(item.createStack(sizeForSlot));
-                    }
-                } else {
-                    //Slot is not currently empty
-                    if (sizeForSlot == 0) {
-                        //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
-                        // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
-                        inputSlot.setEmpty();
-                    } else if (inputSlot.getCount() != sizeForSlot) {
-                        //Otherwise, if our slot doesn't already contain the amount we want it to,
-                        // we need to adjust how much is stored in it, and log an error if it changed
-                        // by a different amount then we expected
-                        //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
-                        // as copying item stacks can sometimes be rather expensive in a heavily modded environment
-                        MekanismUtils.logMismatchedStackSize(sizeForSlot, inputSlot.setStackSize(sizeForSlot, Action.EXECUTE));
-                    }
+            } else {
+                //Slot is not currently empty
+                if (sizeForSlot == 0) {
+                    //If the amount of the item we want to set it to is zero (all got used by earlier stacks, which might
+                    // happen if the recipe requires a stacked input (minPerSlot > 1)), then we need to set the slot to empty
+                    inputSlot.setEmpty();
+                } else if (inputSlot.getCount() != sizeForSlot) {
+                    //Otherwise, if our slot doesn't already contain the amount we want it to,
+                    // we need to adjust how much is stored in it, and log an error if it changed
+                    // by a different amount then we expected
+                    //Note: We use setStackSize here rather than setStack to avoid an unnecessary stack copy call
+                    // as copying item stacks can sometimes be rather expensive in a heavily modded environment
+                    MekanismUtils.logMismatchedStackSize(sizeForSlot, inputSlot.setStackSize(sizeForSlot, Action.EXECUTE));
                 }
             }
         }
@@ -725,12 +822,32 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
 
     private static class RecipeProcessInfo {
 
+        private final HashedItem item;
         private final List<ProcessInfo> processes = new ArrayList<>();
+        /**
+         * Whether this group changed since it was last balanced.
+         */
+        private boolean changed;
         @Nullable
         private IntSupplier lazyMinPerSlot;
         private int minPerSlot = 1;
         private int totalCount;
 
+        private RecipeProcessInfo(HashedItem item) {
+            this.item = item;
+        }
+
+        /**
+         * Adds the process to this group, keeping the processes ordered by their index so that items are distributed in a consistent order.
+         */
+        private void addProcess(ProcessInfo processInfo) {
+            int index = 0;
+            while (index < processes.size() && processes.get(index).process() < processInfo.process()) {
+                index++;
+            }
+            processes.add(index, processInfo);
+        }
+
         public int getMinPerSlot() {
             if (lazyMinPerSlot != null) {
                 //Get the value lazily
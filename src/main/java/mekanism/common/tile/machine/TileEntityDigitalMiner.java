@@ -8,6 +8,7 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
@@ -28,6 +29,7 @@ import mekanism.api.Upgrade;
 import mekanism.api.inventory.IInventorySlot;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.base.MekFakePlayer;
+import mekanism.common.base.TagCache;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.energy.MinerEnergyContainer;
 import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
@@ -120,9 +122,21 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public static final int DEFAULT_HEIGHT_RANGE = 60;
     public static final int DEFAULT_RADIUS = 10;
+    private static final int MAX_FILTER_MATCHES = 1_024;
 
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
     private HashList<MinerFilter<?>> filters = new HashList<>();
+    /**
+     * First filter each state matches, or {@code null} if it matches none of them. Cleared when our filters change, tags are reloaded, or it grows too large.
+     */
+    private final Map<BlockState, MinerFilter<?>> filterMatches = new Reference2ObjectOpenHashMap<>();
+    /**
+     * Filter list and its modification count that the filter matches were calculated for.
+     */
+    @Nullable
+    private HashList<MinerFilter<?>> filterMatchesList;
+    private int filterMatchesModCount;
+    private int filterMatchesTagGeneration;
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
 
     private int radius;
@@ -136,6 +150,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public ItemStack missingStack = ItemStack.EMPTY;
     private int delay;
     private int delayLength = MekanismConfig.general.minerTicksPerMine.get();
+    /**
+     * Number of blocks to mine each time our delay is up, only greater than one when our speed upgrades would have us mine more than one block per tick.
+     */
+    private int minesPerOperation = 1;
     private int cachedToMine;
     private boolean silkTouch;
     private boolean running;
@@ -232,7 +250,18 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                 }
                 energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
                 if (delay == 0) {
-                    tryMineBlock();
+                    //Note: We stop the batch as soon as we fail to mine a block, as that means we are out of space, missing replacement blocks,
+                    // or out of blocks to mine. The energy we used this tick pays for the first block, and each additional block costs the same
+                    // amount again so that mining multiple blocks per tick doesn't end up being cheaper than mining one per tick
+                    for (int i = 0; i < minesPerOperation; i++) {
+                        if (i > 0 && !energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL).equals(energyPerTick)) {
+                            break;
+                        } else if (!tryMineBlock()) {
+                            break;
+                        } else if (i > 0) {
+                            energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
+                        }
+                    }
                     delay = getDelay();
                 }
             } else {
@@ -422,7 +451,36 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         markForSave();
     }
 
-    private void tryMineBlock() {
+    /**
+     * Gets the first of our filters that matches the given state, remembering the result until our filters change or tags are reloaded.
+     */
+    @Nullable
+    private MinerFilter<?> getMatchingFilter(BlockState state) {
+        int tagGeneration = TagCache.getTagGeneration();
+        if (filterMatchesList != filters || filterMatchesModCount != filters.getModificationCount() || filterMatchesTagGeneration != tagGeneration ||
+            filterMatches.size() > MAX_FILTER_MATCHES) {
+            filterMatches.clear();
+            filterMatchesList = filters;
+            filterMatchesModCount = filters.getModificationCount();
+            filterMatchesTagGeneration = tagGeneration;
+        } else if (filterMatches.containsKey(state)) {
+            return filterMatches.get(state);
+        }
+        MinerFilter<?> matchingFilter = null;
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                matchingFilter = filter;
+                break;
+            }
+        }
+        filterMatches.put(state, matchingFilter);
+        return matchingFilter;
+    }
+
+    /**
+     * @return {@code true} if a block was mined.
+     */
+    private boolean tryMineBlock() {
         long target = targetChunk == null ? ChunkPos.INVALID_CHUNK_POS : targetChunk.toLong();
         for (ObjectIterator<Long2ObjectMap.Entry<BitSet>> it = oresToMine.long2ObjectEntrySet().iterator(); it.hasNext(); ) {
             Long2ObjectMap.Entry<BitSet> entry = it.next();
@@ -454,18 +512,16 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                     if (!state.isAir() && !state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
                         //Make sure the block is loaded and is not air, and is not in the blacklist of blocks the miner can break
                         // then check if the block matches one of our filters
-                        MinerFilter<?> matchingFilter = null;
-                        for (MinerFilter<?> filter : filters) {
-                            if (filter.canFilter(state)) {
-                                matchingFilter = filter;
-                                break;
-                            }
-                        }
+                        MinerFilter<?> matchingFilter = getMatchingFilter(state);
                         //If our hasFilter state matches our inversion state, that means we should try to mine
                         // the block, so we check if we can mine it
-                        if (inverse == (matchingFilter == null) && canMine(state, pos)) {
+                        List<ItemStack> drops = null;
+                        if (inverse == (matchingFilter == null)) {
+                            //Note: We check if we can mine the block and get the drops with a single use of the fake player
+                            drops = withFakePlayer(fakePlayer -> canMine(state, pos, fakePlayer) ? getDrops(state, pos, fakePlayer) : null);
+                        }
+                        if (drops != null) {
                             //If we can, then
-                            List<ItemStack> drops = getDrops(state, pos);
                             if (canInsert(drops) && setReplace(state, pos, matchingFilter)) {
                                 add(drops);
                                 missingStack = ItemStack.EMPTY;
@@ -481,9 +537,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
                                     // next time we try to mine but there is no reason to keep the old chunk in memory in the meantime
                                     updateTargetChunk(null);
                                 }
+                                return true;
                             }
-                            //Exit out. We either mined the block or don't have room so there is no reason to continue checking
-                            return;
+                            //Exit out. We don't have room or couldn't replace the block so there is no reason to continue checking
+                            return false;
                         }
                     }
                 }
@@ -503,6 +560,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
         //If we didn't exit early due to actually mining a block that means we don't have a target chunk anymore
         updateTargetChunk(null);
+        return false;
     }
 
     /**
@@ -542,8 +600,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         return true;
     }
 
-    private boolean canMine(BlockState state, BlockPos pos) {
-        return withFakePlayer(dummy -> !MinecraftForge.EVENT_BUS.post(new BlockEvent.BreakEvent(level, pos, state, dummy)));
+    private boolean canMine(BlockState state, BlockPos pos, MekFakePlayer fakePlayer) {
+        return !MinecraftForge.EVENT_BUS.post(new BlockEvent.BreakEvent(level, pos, state, fakePlayer));
     }
 
     private <R> R withFakePlayer(Function<MekFakePlayer, R> fakePlayerConsumer) {
@@ -954,7 +1012,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public void recalculateUpgrades(Upgrade upgrade) {
         super.recalculateUpgrades(upgrade);
         if (upgrade == Upgrade.SPEED) {
-            delayLength = MekanismUtils.getTicks(this, MekanismConfig.general.minerTicksPerMine.get());
+            int ticksPerMine = MekanismConfig.general.minerTicksPerMine.get();
+            delayLength = MekanismUtils.getTicks(this, ticksPerMine);
+            if (delayLength > 1) {
+                minesPerOperation = 1;
+            } else {
+                //If we are supposed to mine at least once per tick, figure out how many blocks we should mine each tick to keep up with our speed
+                double ticks = ticksPerMine * Math.pow(MekanismConfig.general.maxUpgradeMultiplier.get(), -MekanismUtils.fractionUpgrades(this, Upgrade.SPEED));
+                minesPerOperation = Mth.clamp((int) (1 / ticks), 1, MekanismConfig.general.minerMaxMinesPerTick.get());
+            }
         }
     }
 
@@ -1141,20 +1207,21 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         NBTUtils.setIntIfPresent(tag, NBTConstants.MAX, this::setMaxY);
     }
 
-    private List<ItemStack> getDrops(BlockState state, BlockPos pos) {
+    private List<ItemStack> getDrops(BlockState state, BlockPos pos, MekFakePlayer fakePlayer) {
         if (state.isAir()) {
             return Collections.emptyList();
         }
+        //Note: We create a new tool each time, as loot functions and modifiers are given the tool and may modify it
         ItemStack stack = MekanismItems.ATOMIC_DISASSEMBLER.getItemStack();
         if (getSilkTouch()) {
             stack.enchant(Enchantments.SILK_TOUCH, 1);
         }
-        return withFakePlayer(fakePlayer -> state.getDrops(new LootContext.Builder((ServerLevel) getWorldNN())
+        return state.getDrops(new LootContext.Builder((ServerLevel) getWorldNN())
               .withRandom(getWorldNN().random)
               .withParameter(LootContextParams.ORIGIN, Vec3.atCenterOf(pos))
               .withParameter(LootContextParams.TOOL, stack)
               .withOptionalParameter(LootContextParams.THIS_ENTITY, fakePlayer)
-              .withOptionalParameter(LootContextParams.BLOCK_ENTITY, WorldUtils.getTileEntity(getWorldNN(), pos))));
+              .withOptionalParameter(LootContextParams.BLOCK_ENTITY, WorldUtils.getTileEntity(getWorldNN(), pos)));
     }
 
     //Methods relating to IComputerTile
@@ -81,6 +81,10 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
     private boolean isRecipe = false;
     private boolean stockControl = false;
     private boolean needsOrganize = true; //organize on load
+    /**
+     * Whether the contents of the crafting grid or the formula changed since we last calculated the recipe.
+     */
+    private boolean recipeDirty = true;
     private final HashedItem[] stockControlMap = new HashedItem[18];
 
     private int pulseOperations;
@@ -133,7 +137,15 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         inputSlots = new ArrayList<>();
         outputSlots = new ArrayList<>();
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
-        builder.addSlot(formulaSlot = BasicInventorySlot.at(formulaSlotValidator, listener, 6, 26))
+        IContentsListener recipeListener = () -> {
+            listener.onContentsChanged();
+            recipeDirty = true;
+        };
+        IContentsListener stockListener = () -> {
+            listener.onContentsChanged();
+            needsOrganize = true;
+        };
+        builder.addSlot(formulaSlot = BasicInventorySlot.at(formulaSlotValidator, recipeListener, 6, 26))
               .setSlotOverlay(SlotOverlay.FORMULA);
         for (int slotY = 0; slotY < 2; slotY++) {
             for (int slotX = 0; slotX < 9; slotX++) {
@@ -152,14 +164,14 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                         return ItemHandlerHelper.canItemStacksStack(stockItem.getStack(), stack);
                     }
                     return false;
-                }, BasicInventorySlot.alwaysTrue, listener, 8 + slotX * 18, 98 + slotY * 18);
+                }, BasicInventorySlot.alwaysTrue, stockListener, 8 + slotX * 18, 98 + slotY * 18);
                 builder.addSlot(inputSlot);
                 inputSlots.add(inputSlot);
             }
         }
         for (int slotY = 0; slotY < 3; slotY++) {
             for (int slotX = 0; slotX < 3; slotX++) {
-                IInventorySlot craftingSlot = FormulaicCraftingSlot.at(this::getAutoMode, listener, 26 + slotX * 18, 17 + slotY * 18);
+                IInventorySlot craftingSlot = FormulaicCraftingSlot.at(this::getAutoMode, recipeListener, 26 + slotX * 18, 17 + slotY * 18);
                 builder.addSlot(craftingSlot);
                 craftingGridSlots.add(craftingSlot);
             }
@@ -200,12 +212,19 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Invalidate the cached recipe and recalculate
             cachedRecipe = null;
+            if (formula != null) {
+                formula.flushIngredientCache();
+            }
+            recipeDirty = true;
+        }
+        if (recipeDirty) {
             recalculateRecipe();
         }
         if (formula != null && stockControl && needsOrganize) {
-            needsOrganize = false;
             buildStockControlMap();
             organizeStock();
+            //Note: We mark that we don't need to organize after organizing so that the changes we make while organizing don't cause us to organize again
+            needsOrganize = false;
         }
         energySlot.fillContainerOrConvert();
         if (getControlType() != RedstoneControl.PULSE) {
@@ -253,8 +272,9 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
             if (formula == null || lastFormulaStack != formulaStack) {
                 loadFormula();
             }
-        } else {
+        } else if (formula != null) {
             formula = null;
+            recipeDirty = true;
         }
         lastFormulaStack = formulaStack;
     }
@@ -262,38 +282,37 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
     private void loadFormula() {
         ItemStack formulaStack = formulaSlot.getStack();
         ItemCraftingFormula formulaItem = (ItemCraftingFormula) formulaStack.getItem();
+        RecipeFormula previous = formula;
         if (formulaItem.isInvalid(formulaStack)) {
             formula = null;
-            return;
-        }
-        NonNullList<ItemStack> formulaInventory = formulaItem.getInventory(formulaStack);
-        if (formulaInventory == null) {
-            formula = null;
         } else {
-            RecipeFormula recipe = new RecipeFormula(level, formulaInventory);
-            if (recipe.isValidFormula()) {
-                if (formula == null) {
-                    formula = recipe;
-                } else if (!formula.isFormulaEqual(recipe)) {
-                    formula = recipe;
-                    operatingTicks = 0;
-                }
-            } else {
+            NonNullList<ItemStack> formulaInventory = formulaItem.getInventory(formulaStack);
+            if (formulaInventory == null) {
                 formula = null;
-                formulaItem.setInvalid(formulaStack, true);
+            } else {
+                RecipeFormula recipe = new RecipeFormula(level, formulaInventory);
+                if (recipe.isValidFormula()) {
+                    if (formula == null) {
+                        formula = recipe;
+                    } else if (!formula.isFormulaEqual(recipe)) {
+                        formula = recipe;
+                        operatingTicks = 0;
+                    }
+                } else {
+                    formula = null;
+                    formulaItem.setInvalid(formulaStack, true);
+                }
             }
         }
-    }
-
-    @Override
-    protected void setChanged(boolean updateComparator) {
-        super.setChanged(updateComparator);
-        //TODO: Should this be changed to being in onContentsChanged instead of setChanged?
-        recalculateRecipe();
+        if (formula != previous) {
+            recipeDirty = true;
+            needsOrganize = true;
+        }
     }
 
     private void recalculateRecipe() {
         if (level != null && !isRemote()) {
+            recipeDirty = false;
             if (formula == null || !formula.isValidFormula()) {
                 //Should always be 9 for the size
                 for (int i = 0; i < craftingGridSlots.size(); i++) {
@@ -319,7 +338,6 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
                     lastOutputStack = ItemStack.EMPTY;
                 }
             }
-            needsOrganize = true;
         }
     }
 
@@ -471,6 +489,7 @@ public class TileEntityFormulaicAssemblicator extends TileEntityConfigurableMach
         if (!isRemote() && formula != null) {
             stockControl = !stockControl;
             if (stockControl) {
+                buildStockControlMap();
                 organizeStock();
             }
         }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 import mekanism.api.IContentsListener;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
@@ -89,6 +90,11 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         container.trackArray(trackedErrors);
     }
 
+    @Override
+    public IntSupplier getContentsVersionSupplier() {
+        return this::getContentsVersion;
+    }
+
     @Override
     public void clearRecipeErrors(int cacheIndex) {
         Arrays.fill(trackedErrors, false);
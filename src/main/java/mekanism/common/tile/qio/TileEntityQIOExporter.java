@@ -2,19 +2,16 @@ package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import java.util.Collection;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.ToIntFunction;
+import java.util.Set;
 import mekanism.api.NBTConstants;
 import mekanism.api.math.MathUtils;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.qio.filter.QIOItemStackFilter;
 import mekanism.common.content.qio.filter.QIOModIDFilter;
@@ -24,6 +21,7 @@ import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.util.CapabilityUtils;
@@ -39,17 +37,25 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
 import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
 
     private static final int MAX_DELAY = 10;
+    private static final int MAX_EJECT_ATTEMPTS = 100;
     private int delay = 0;
     private boolean exportWithoutFilter;
 
-    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()));
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()));
+    /**
+     * Item types we may export and the index of the next one to try, so that each export operation continues where the previous one stopped.
+     */
+    private final List<HashedItem> exportCandidates = new ArrayList<>();
+    private int exportCursor;
+    @Nullable
+    private QIOFrequency candidateFrequency;
+    @Nullable
+    private HashList<QIOFilter<?>> candidateFilters;
+    private int candidateFiltersModCount;
 
     public TileEntityQIOExporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_EXPORTER, pos, state);
@@ -78,32 +84,97 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         if (!exportWithoutFilter && getFilters().isEmpty()) {
             return;
         }
-        if (exportWithoutFilter && getFilters().isEmpty()) {
-            filterlessEjector.eject(freq, back, freq.getItemDataMap().entrySet());
-        } else if (!getFilters().isEmpty()) {
-            filterEjector.eject(freq, back, getFilterEjectMap(back, freq).object2LongEntrySet());
+        Optional<IItemHandler> capability = CapabilityUtils.getCapability(back, ForgeCapabilities.ITEM_HANDLER, direction).resolve();
+        if (capability.isPresent()) {
+            updateExportCandidates(freq);
+            eject(freq, capability.get());
         }
     }
 
-    private Object2LongMap<HashedItem> getFilterEjectMap(BlockEntity back, QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
+    /**
+     * Rebuilds the item types we may export once we have gone through all the previous candidates, or if the frequency or our filters changed since they were
+     * gathered.
+     */
+    private void updateExportCandidates(QIOFrequency freq) {
+        HashList<QIOFilter<?>> filters = getFilters();
+        if (exportCursor < exportCandidates.size() && candidateFrequency == freq && candidateFilters == filters &&
+            candidateFiltersModCount == filters.getModificationCount()) {
+            return;
+        }
+        exportCandidates.clear();
+        exportCursor = 0;
+        candidateFrequency = freq;
+        candidateFilters = filters;
+        candidateFiltersModCount = filters.getModificationCount();
+        if (getFilters().isEmpty()) {
+            exportCandidates.addAll(freq.getItemDataMap().keySet());
+            return;
+        }
+        Set<HashedItem> candidates = new ObjectLinkedOpenHashSet<>();
         for (QIOFilter<?> filter : getFilters()) {
             if (filter instanceof QIOItemStackFilter itemFilter) {
                 if (itemFilter.fuzzyMode) {
-                    map.putAll(freq.getStacksByItem(itemFilter.getItemStack().getItem()));
+                    candidates.addAll(freq.getTypesForItem(itemFilter.getItemStack().getItem()));
                 } else {
-                    HashedItem type = HashedItem.create(itemFilter.getItemStack());
-                    map.put(type, freq.getStored(type));
+                    candidates.add(HashedItem.create(itemFilter.getItemStack()));
                 }
             } else if (filter instanceof QIOTagFilter tagFilter) {
-                String tagName = tagFilter.getTagName();
-                map.putAll(freq.getStacksByTagWildcard(tagName));
+                candidates.addAll(freq.getStacksByTagWildcard(tagFilter.getTagName()).keySet());
             } else if (filter instanceof QIOModIDFilter modIDFilter) {
-                String modID = modIDFilter.getModID();
-                map.putAll(freq.getStacksByModIDWildcard(modID));
+                candidates.addAll(freq.getStacksByModIDWildcard(modIDFilter.getModID()).keySet());
+            }
+        }
+        exportCandidates.addAll(candidates);
+    }
+
+    /**
+     * Exports items by continuing through our export candidates from where the last operation stopped, looking at no more than {@link #MAX_EJECT_ATTEMPTS} types
+     * per operation. This makes sure we will eventually eject each item type, but not attempt every item in the frequency each operation. Types that are no longer
+     * stored in the frequency are skipped, and only have their stored amount looked up when they are reached.
+     *
+     * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
+     */
+    private void eject(QIOFrequency freq, IItemHandler inventory) {
+        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount();
+        Object2IntMap<HashedItem> removed = new Object2IntOpenHashMap<>();
+        int amountRemoved = 0;
+        for (int attempts = 0; attempts < MAX_EJECT_ATTEMPTS && exportCursor < exportCandidates.size(); attempts++) {
+            // break if we've reached our quota
+            if (amountRemoved == maxCount || removed.size() == maxTypes) {
+                break;
+            }
+            HashedItem type = exportCandidates.get(exportCursor++);
+            int stored = MathUtils.clampToInt(freq.getStored(type));
+            if (stored == 0) {
+                continue;
+            }
+            ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, stored));
+            ItemStack toInsert = origInsert.copy();
+            for (int i = 0; i < inventory.getSlots(); i++) {
+                // Check validation
+                if (inventory.isItemValid(i, toInsert)) {
+                    // Do insert
+                    toInsert = inventory.insertItem(i, toInsert, false);
+                    // If empty, end
+                    if (toInsert.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
+            if (!toUse.isEmpty()) {
+                amountRemoved += toUse.getCount();
+                removed.mergeInt(type, toUse.getCount(), Integer::sum);
+            }
+        }
+        // actually remove the items from the QIO frequency
+        for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
+            int amount = entry.getIntValue();
+            ItemStack ret = freq.removeByType(entry.getKey(), amount);
+            if (ret.getCount() != amount) {
+                Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
             }
         }
-        return map;
     }
 
     @ComputerMethod
@@ -150,82 +221,4 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
         }
     }
     //End methods IComputerTile
-
-    /**
-     * An efficient way to handle large (in item type) item ejections from a QIO frequency. Each eject attempt of a certain item type will use a uniform probability
-     * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
-     * type, but not attempt every item in the frequency each operation.
-     *
-     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
-     * filterless ejection, rather than recreating the whole map each ejection operation.
-     *
-     * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
-     *
-     * @author aidancbrady
-     */
-    private final class EfficientEjector<T> {
-
-        private static final int MAX_EJECT_ATTEMPTS = 100;
-
-        private final Function<T, HashedItem> typeSupplier;
-        private final ToIntFunction<T> countSupplier;
-
-        private EfficientEjector(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier) {
-            this.typeSupplier = typeSupplier;
-            this.countSupplier = countSupplier;
-        }
-
-        private void eject(QIOFrequency freq, BlockEntity tile, Collection<T> ejectMap) {
-            if (ejectMap.isEmpty()) {
-                return;
-            }
-            double ejectChance = Math.min(1, (double) MAX_EJECT_ATTEMPTS / ejectMap.size());
-            int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount();
-            Object2IntMap<HashedItem> removed = new Object2IntOpenHashMap<>();
-            int amountRemoved = 0;
-
-            Optional<IItemHandler> capability = CapabilityUtils.getCapability(tile, ForgeCapabilities.ITEM_HANDLER, getDirection()).resolve();
-
-            if (capability.isPresent()) {
-                IItemHandler inventory = capability.get();
-                for (T obj : ejectMap) {
-                    // break if we've reached our quota
-                    if (amountRemoved == maxCount || removed.size() == maxTypes) {
-                        break;
-                    }
-                    // skip randomly based on our eject chance
-                    if (getLevel().getRandom().nextDouble() > ejectChance) {
-                        continue;
-                    }
-                    HashedItem type = typeSupplier.apply(obj);
-                    ItemStack origInsert = type.createStack(Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj)));
-                    ItemStack toInsert = origInsert.copy();
-                    for (int i = 0; i < inventory.getSlots(); i++) {
-                        // Check validation
-                        if (inventory.isItemValid(i, toInsert)) {
-                            // Do insert
-                            toInsert = inventory.insertItem(i, toInsert, false);
-                            // If empty, end
-                            if (toInsert.isEmpty()) {
-                                break;
-                            }
-                        }
-                    }
-                    ItemStack toUse = TransporterManager.getToUse(origInsert, toInsert);
-                    if (!toUse.isEmpty()) {
-                        amountRemoved += toUse.getCount();
-                        removed.put(type, removed.getOrDefault(type, 0) + toUse.getCount());
-                    }
-                }
-            }
-            // actually remove the items from the QIO frequency
-            for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
-                int amount = entry.getIntValue();
-                ItemStack ret = freq.removeByType(entry.getKey(), amount);
-                if (ret.getCount() != amount) {
-                    Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
-                }
-            }
-        }
-    }
 }
\ No newline at end of file
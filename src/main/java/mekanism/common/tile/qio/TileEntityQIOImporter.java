@@ -1,11 +1,14 @@
 package mekanism.common.tile.qio;
 
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
+import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.transporter.TransporterManager;
@@ -13,6 +16,7 @@ import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.util.CapabilityUtils;
@@ -24,17 +28,38 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
 
     private static final int MAX_DELAY = 10;
+    private static final int MAX_FILTER_CACHE_SIZE = 1_024;
     private int delay = 0;
     private boolean importWithoutFilter = true;
 
+    @Nullable
+    private BlockEntity cachedBack;
+    @Nullable
+    private Direction cachedDirection;
+    private LazyOptional<IItemHandler> cachedInventory = LazyOptional.empty();
+    /**
+     * Whether item types can be filtered by our current filters, cleared when the filters change.
+     */
+    private final Object2BooleanMap<HashedItem> filterCache = new Object2BooleanOpenHashMap<>();
+    /**
+     * Filter list and its modification count that the filter cache was calculated for.
+     */
+    @Nullable
+    private HashList<QIOFilter<?>> filterCacheList;
+    private int filterCacheModCount;
+    private int filterCacheTagGeneration;
+
     public TileEntityQIOImporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_IMPORTER, pos, state);
     }
@@ -54,58 +79,112 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
 
     private void tryImport() {
         QIOFrequency freq = getQIOFrequency();
-        Direction direction = getDirection();
-        BlockEntity back = WorldUtils.getTileEntity(getLevel(), worldPosition.relative(direction.getOpposite()));
-        if (freq == null || !InventoryUtils.isItemHandler(back, direction)) {
-            return;
-        }
-        if (!importWithoutFilter && getFilters().isEmpty()) {
+        if (freq == null || (!importWithoutFilter && getFilters().isEmpty())) {
             return;
         }
-        Optional<IItemHandler> capability = CapabilityUtils.getCapability(back, ForgeCapabilities.ITEM_HANDLER, direction).resolve();
+        Optional<IItemHandler> capability = getBackInventory().resolve();
         if (capability.isEmpty()) {
             return;
         }
         IItemHandler inventory = capability.get();
+        validateFilterCache();
         Set<HashedItem> typesAdded = new HashSet<>();
         int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
 
         for (int i = inventory.getSlots() - 1; i >= 0; i--) {
-            ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
-            if (stack.isEmpty()) {
+            //Note: We look at the stack in the slot before simulating the extraction, so that we don't have to simulate extracting
+            // from slots that are empty or contain items we can't filter
+            ItemStack stored = inventory.getStackInSlot(i);
+            if (stored.isEmpty()) {
                 continue;
             }
-            HashedItem type = HashedItem.create(stack);
+            HashedItem storedType = HashedItem.raw(stored);
             // if we don't have room for another item type, skip
-            if (!typesAdded.contains(type) && typesAdded.size() == maxTypes) {
+            if (typesAdded.size() == maxTypes && !typesAdded.contains(storedType)) {
                 continue;
             }
             // if we can't filter this item type, skip
-            if (!canFilter(stack)) {
+            if (!canFilter(storedType)) {
+                continue;
+            }
+            ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            HashedItem type = HashedItem.create(stack);
+            if (!type.equals(storedType) && ((typesAdded.size() == maxTypes && !typesAdded.contains(type)) || !canFilter(type))) {
+                //The handler gave us something other than what is in the slot, validate it again
                 continue;
             }
             ItemStack used = TransporterManager.getToUse(stack, freq.addItem(stack));
             ItemStack ret = inventory.extractItem(i, used.getCount(), false);
             if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
                 Mekanism.logger.error("QIO insertion error: item handler {} returned {} during simulated extraction, "
-                                      + "but returned {} during execution. This is wrong!", back, stack, ret);
+                                      + "but returned {} during execution. This is wrong!", cachedBack, stack, ret);
             }
             typesAdded.add(type);
             countAdded += used.getCount();
+            if (countAdded >= maxCount) {
+                break;
+            }
         }
     }
 
-    private boolean canFilter(ItemStack stack) {
+    /**
+     * Gets the item handler of the block behind us, only looking it up again if the block changed, we were rotated, or the capability was invalidated.
+     */
+    private LazyOptional<IItemHandler> getBackInventory() {
+        Direction direction = getDirection();
+        if (cachedBack == null || cachedBack.isRemoved() || cachedDirection != direction || !cachedInventory.isPresent()) {
+            cachedBack = WorldUtils.getTileEntity(getLevel(), worldPosition.relative(direction.getOpposite()));
+            cachedDirection = direction;
+            cachedInventory = CapabilityUtils.getCapability(cachedBack, ForgeCapabilities.ITEM_HANDLER, direction);
+        }
+        return cachedInventory;
+    }
+
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        //Clear our cached inventory so that we look it up again the next time we try to import
+        cachedBack = null;
+        cachedInventory = LazyOptional.empty();
+    }
+
+    /**
+     * Clears our memoized filter results if our filters changed or tags were reloaded.
+     */
+    private void validateFilterCache() {
+        HashList<QIOFilter<?>> filters = getFilters();
+        int tagGeneration = TagCache.getTagGeneration();
+        if (filterCacheList != filters || filterCacheModCount != filters.getModificationCount() || filterCacheTagGeneration != tagGeneration ||
+            filterCache.size() > MAX_FILTER_CACHE_SIZE) {
+            filterCache.clear();
+            filterCacheList = filters;
+            filterCacheModCount = filters.getModificationCount();
+            filterCacheTagGeneration = tagGeneration;
+        }
+    }
+
+    private boolean canFilter(HashedItem type) {
         // quickly return true if we don't have any filters installed, and we allow for filterless importing
         if (importWithoutFilter && getFilters().isEmpty()) {
             return true;
         }
+        if (filterCache.containsKey(type)) {
+            return filterCache.getBoolean(type);
+        }
+        ItemStack stack = type.getStack();
+        boolean canFilter = false;
         for (QIOFilter<?> filter : getFilters()) {
             if (filter.getFinder().modifies(stack)) {
-                return true;
+                canFilter = true;
+                break;
             }
         }
-        return false;
+        //Note: As the type may be backed by the stack in the other inventory, we store a copy of it
+        filterCache.put(HashedItem.create(stack), canFilter);
+        return canFilter;
     }
 
     @ComputerMethod
@@ -1,7 +1,6 @@
 package mekanism.common.util;
 
 import com.mojang.datafixers.util.Either;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
@@ -9,6 +8,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 import mekanism.common.Mekanism;
+import mekanism.common.lib.ChunkAccessCache;
 import mekanism.common.tags.MekanismTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -139,26 +139,15 @@ public class WorldUtils {
      */
     @Nullable
     @Contract("null, _, _ -> null")
-    private static ChunkAccess getChunkForPos(@Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    private static ChunkAccess getChunkForPos(@Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         if (!isBlockInBounds(world, pos)) {
             //Allow the world to be nullable to remove warnings when we are calling things from a place that world could be null
             // Also short circuit to check if the position is out of bounds before bothering to look up the chunk
             return null;
         }
-        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
-        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
-        long combinedChunk = ChunkPos.asLong(chunkX, chunkZ);
         //We get the chunk rather than the world, so we can cache the chunk improving the overall
         // performance for retrieving a bunch of chunks in the general vicinity
-        ChunkAccess chunk = chunkMap.get(combinedChunk);
-        if (chunk == null) {
-            //Get the chunk but don't force load it
-            chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
-            if (chunk != null) {
-                chunkMap.put(combinedChunk, chunk);
-            }
-        }
-        return chunk;
+        return chunkMap.getChunk(world, SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
     }
 
     /**
@@ -172,7 +161,7 @@ public class WorldUtils {
      * @return optional containing the blockstate if found, empty optional if not loaded
      */
     @NotNull
-    public static Optional<BlockState> getBlockState(@Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    public static Optional<BlockState> getBlockState(@Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         //Get the blockstate using the chunk we found/had cached
         return getBlockState(getChunkForPos(world, chunkMap, pos), pos);
     }
@@ -205,7 +194,7 @@ public class WorldUtils {
      * @return optional containing the fluidstate if found, empty optional if not loaded
      */
     @NotNull
-    public static Optional<FluidState> getFluidState(@Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    public static Optional<FluidState> getFluidState(@Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         //Get the fluidstate using the chunk we found/had cached
         return getFluidState(getChunkForPos(world, chunkMap, pos), pos);
     }
@@ -239,7 +228,7 @@ public class WorldUtils {
      */
     @Nullable
     @Contract("null, _, _ -> null")
-    public static BlockEntity getTileEntity(@Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    public static BlockEntity getTileEntity(@Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         //Get the tile entity using the chunk we found/had cached
         return getTileEntity(getChunkForPos(world, chunkMap, pos), pos);
     }
@@ -257,7 +246,7 @@ public class WorldUtils {
      */
     @Nullable
     @Contract("_, null, _, _ -> null")
-    public static <T extends BlockEntity> T getTileEntity(@NotNull Class<T> clazz, @Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos) {
+    public static <T extends BlockEntity> T getTileEntity(@NotNull Class<T> clazz, @Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos) {
         return getTileEntity(clazz, world, chunkMap, pos, false);
     }
 
@@ -275,7 +264,7 @@ public class WorldUtils {
      */
     @Nullable
     @Contract("_, null, _, _, _ -> null")
-    public static <T extends BlockEntity> T getTileEntity(@NotNull Class<T> clazz, @Nullable LevelAccessor world, @NotNull Long2ObjectMap<ChunkAccess> chunkMap, @NotNull BlockPos pos,
+    public static <T extends BlockEntity> T getTileEntity(@NotNull Class<T> clazz, @Nullable LevelAccessor world, @NotNull ChunkAccessCache chunkMap, @NotNull BlockPos pos,
           boolean logWrongType) {
         //Get the tile entity using the chunk we found/had cached
         return getTileEntity(clazz, getChunkForPos(world, chunkMap, pos), pos, logWrongType);
@@ -0,0 +1,75 @@
+package mekanism.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Queue of chunks in a dimension that are waiting to be retrogenned, along with how many chunks have been processed so far.
+ */
+public class RetrogenQueue {
+
+    //Note: We store the chunk positions as longs so that we don't have to keep a large number of ChunkPos objects around when a lot of chunks need retrogen,
+    // and we keep track of which chunks are queued in a set so that checking if a chunk is already queued doesn't require looping the entire queue
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    private final LongSet queued = new LongOpenHashSet();
+    private int processed;
+    private int generated;
+
+    /**
+     * Adds the given chunk to the queue if it is not already queued.
+     */
+    public void add(ChunkPos chunkPos) {
+        long pos = chunkPos.toLong();
+        if (queued.add(pos)) {
+            queue.enqueue(pos);
+        }
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * @apiNote Only call this if the queue is not empty.
+     */
+    public ChunkPos poll() {
+        long pos = queue.dequeueLong();
+        queued.remove(pos);
+        return new ChunkPos(pos);
+    }
+
+    /**
+     * Marks that a chunk has been processed.
+     *
+     * @param generatedAny {@code true} if anything got generated in the chunk.
+     */
+    public void markProcessed(boolean generatedAny) {
+        processed++;
+        if (generatedAny) {
+            generated++;
+        }
+    }
+
+    /**
+     * @return Number of chunks still waiting to be retrogenned.
+     */
+    public int getRemaining() {
+        return queue.size();
+    }
+
+    /**
+     * @return Number of chunks that have been processed since the queue was created.
+     */
+    public int getProcessed() {
+        return processed;
+    }
+
+    /**
+     * @return Number of processed chunks that had anything generated in them.
+     */
+    public int getGenerated() {
+        return generated;
+    }
+}
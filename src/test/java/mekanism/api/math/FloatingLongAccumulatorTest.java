@@ -0,0 +1,49 @@
+package mekanism.api.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the implementation of FloatingLongAccumulator")
+class FloatingLongAccumulatorTest {
+
+    @Test
+    @DisplayName("Test accumulating a series of operations")
+    void testAccumulate() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
+        accumulator.plus(FloatingLong.create(509_876, (short) 5_555))
+              .plus(FloatingLong.create(13_479, (short) 6_789))
+              .minus(FloatingLong.create(3_356, (short) 2_344))
+              .times(FloatingLong.create(2));
+        Assertions.assertEquals(FloatingLong.createConst(1_040_000), accumulator.freeze());
+    }
+
+    @Test
+    @DisplayName("Test that frozen values are not modified by further operations")
+    void testFreezeIsImmutable() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
+        FloatingLong frozen = accumulator.plus(FloatingLong.create(10)).freeze();
+        accumulator.plus(FloatingLong.create(5));
+        Assertions.assertEquals(FloatingLong.createConst(10), frozen);
+        Assertions.assertEquals(FloatingLong.createConst(15), accumulator.freeze());
+    }
+
+    @Test
+    @DisplayName("Test that added values are not modified by the accumulator")
+    void testSourceUnmodified() {
+        FloatingLong source = FloatingLong.create(7, (short) 5_000);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator().set(source);
+        accumulator.plus(source).times(FloatingLong.create(3));
+        Assertions.assertEquals(FloatingLong.createConst(7.5), source);
+        Assertions.assertEquals(FloatingLong.createConst(45), accumulator.freeze());
+    }
+
+    @Test
+    @DisplayName("Test resetting the accumulator and clamping at the bounds")
+    void testResetAndClamping() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
+        Assertions.assertTrue(accumulator.plus(FloatingLong.MAX_VALUE).plus(FloatingLong.ONE).valueEquals(FloatingLong.MAX_VALUE));
+        Assertions.assertTrue(accumulator.reset().isZero());
+        Assertions.assertTrue(accumulator.minus(FloatingLong.ONE).isZero());
+    }
+}
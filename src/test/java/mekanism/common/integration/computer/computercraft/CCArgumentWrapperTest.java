@@ -278,4 +278,34 @@ class CCArgumentWrapperTest {
     void testInvalidListStringStringList() {
         assertMismatchedList(StringTag.valueOf("Test"), createStringList("A", "B", "C"));
     }
-}
\ No newline at end of file
+
+    // ===================
+    // String arrays
+    // ===================
+    @Test
+    @DisplayName("Test converting a lua list of strings to a string array")
+    void testStringArray() {
+        Map<Double, Object> table = new HashMap<>();
+        table.put(1D, "getTemperature");
+        table.put(2D, "getDamagePercent");
+        Object sanitized = CCArgumentWrapperTestHelper.sanitize(String[].class, table);
+        Assertions.assertArrayEquals(new String[]{"getTemperature", "getDamagePercent"}, (String[]) sanitized);
+    }
+
+    @Test
+    @DisplayName("Test making sure we fail to create a string array out of a lua list with non string elements")
+    void testInvalidStringArray() {
+        Map<Double, Object> table = new HashMap<>();
+        table.put(1D, "getTemperature");
+        table.put(2D, 5D);
+        Assertions.assertSame(table, CCArgumentWrapperTestHelper.sanitize(String[].class, table));
+    }
+
+    @Test
+    @DisplayName("Test making sure we fail to create a string array out of a lua table that is not a list")
+    void testInvalidStringArrayTable() {
+        Map<Object, Object> table = new HashMap<>();
+        table.put("key", "getTemperature");
+        Assertions.assertSame(table, CCArgumentWrapperTestHelper.sanitize(String[].class, table));
+    }
+}
@@ -30,7 +30,7 @@ class CCArgumentWrapperTestHelper {
         return sanitize(targetClass == null ? nbt.getClass() : targetClass, wrapped);
     }
 
-    static Object sanitize(Class<? extends Tag> expectedType, Object wrapped) {
+    static Object sanitize(Class<?> expectedType, Object wrapped) {
         return DUMMY_WRAPPER.sanitizeArgument(expectedType, wrapped.getClass(), wrapped);
     }
 